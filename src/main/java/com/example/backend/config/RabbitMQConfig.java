@@ -1,13 +1,16 @@
 package com.example.backend.config;
 
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -33,6 +36,12 @@ public class RabbitMQConfig {
     public static final String TRANSCRIPTION_DLQ_NAME = "transcription_queue_dlq";
     public static final String TRANSCRIPTION_DLQ_ROUTING_KEY = "dlq.video.transcoding.request";
 
+    // Enrollment access cache invalidation, fanned out to every node
+    public static final String ENROLLMENT_ACCESS_EXCHANGE_NAME = "enrollment_access_exchange";
+
+    // Slug registry cache invalidation, fanned out to every node
+    public static final String SLUG_REGISTRY_EXCHANGE_NAME = "slug_registry_exchange";
+
     @Bean
     public Queue queue() {
         return QueueBuilder.durable(QUEUE_NAME)
@@ -108,4 +117,40 @@ public class RabbitMQConfig {
                 .to(transcriptionDeadLetterExchange)
                 .with(TRANSCRIPTION_DLQ_ROUTING_KEY);
     }
-}
\ No newline at end of file
+
+    @Bean
+    public MessageConverter jsonMessageConverter() {
+        return new Jackson2JsonMessageConverter();
+    }
+
+    @Bean
+    public FanoutExchange enrollmentAccessExchange() {
+        return new FanoutExchange(ENROLLMENT_ACCESS_EXCHANGE_NAME);
+    }
+
+    @Bean
+    public Queue enrollmentAccessQueue() {
+        // Server-named, exclusive and auto-delete: one queue per running node
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding enrollmentAccessBinding(Queue enrollmentAccessQueue, FanoutExchange enrollmentAccessExchange) {
+        return BindingBuilder.bind(enrollmentAccessQueue).to(enrollmentAccessExchange);
+    }
+
+    @Bean
+    public FanoutExchange slugRegistryExchange() {
+        return new FanoutExchange(SLUG_REGISTRY_EXCHANGE_NAME);
+    }
+
+    @Bean
+    public Queue slugRegistryQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding slugRegistryBinding(Queue slugRegistryQueue, FanoutExchange slugRegistryExchange) {
+        return BindingBuilder.bind(slugRegistryQueue).to(slugRegistryExchange);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.backend.config;
 import com.example.backend.excecption.ForbiddenException;
 import com.example.backend.excecption.InvalidRequestDataException;
 import com.example.backend.service.EnrollmentService;
+import com.example.backend.service.LessonCommentStreamService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -45,6 +46,25 @@ public class SubscriptionInterceptor implements ChannelInterceptor {
                 if (!enrollmentService.isUserAuthorizedForSession(userEmail, sessionId)) {
                     throw new ForbiddenException("User " + userEmail + " is not authorized for session " + sessionId);
                 }
+            } else if (destination != null && destination.startsWith(LessonCommentStreamService.TOPIC_PREFIX)
+                    && destination.endsWith(LessonCommentStreamService.TOPIC_SUFFIX)) {
+                if (user == null) {
+                    throw new ForbiddenException("Authentication is required to follow lesson comments.");
+                }
+                String lessonIdStr = destination.substring(LessonCommentStreamService.TOPIC_PREFIX.length(),
+                        destination.length() - LessonCommentStreamService.TOPIC_SUFFIX.length());
+                UUID lessonId;
+                try {
+                    lessonId = UUID.fromString(lessonIdStr);
+                } catch (IllegalArgumentException e) {
+                    log.error("Invalid lesson ID format: {}", lessonIdStr, e);
+                    throw new InvalidRequestDataException("Invalid lesson ID format.");
+                }
+                String userEmail = user.getName();
+
+                if (!enrollmentService.isUserAuthorizedForLessonComments(userEmail, lessonId)) {
+                    throw new ForbiddenException("User " + userEmail + " is not authorized for comments of lesson " + lessonId);
+                }
             }
         }
         return message;
@@ -0,0 +1,7 @@
+package com.example.backend.constant;
+
+public enum SeatStatus {
+    AVAILABLE,
+    HELD,
+    TAKEN
+}
@@ -0,0 +1,8 @@
+package com.example.backend.constant;
+
+public enum SlugScope {
+    COURSE,
+    BATCH,
+    CHAPTER,
+    LESSON
+}
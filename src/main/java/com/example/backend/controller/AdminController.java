@@ -3,9 +3,14 @@ package com.example.backend.controller;
 import com.example.backend.dto.model.UserDTO;
 import com.example.backend.dto.model.UserRoleDTO;
 import com.example.backend.dto.request.admin.AssignRoleRequest;
+import com.example.backend.dto.request.admin.ReplayDeadLettersRequest;
+import com.example.backend.dto.response.admin.DeadLetterReplayResponse;
+import com.example.backend.dto.response.admin.DeadLetterSummaryResponse;
 import com.example.backend.dto.response.pagination.PaginationResponse;
+import com.example.backend.service.DeadLetterReplayService;
 import com.example.backend.service.RoleService;
 import com.example.backend.service.UserService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.apache.coyote.BadRequestException;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +26,7 @@ public class AdminController {
 
     private final UserService userService;
     private final RoleService roleService;
+    private final DeadLetterReplayService deadLetterReplayService;
 
     @GetMapping("/users")
     public ResponseEntity<PaginationResponse<UserDTO>> getAllUsers(
@@ -56,4 +62,23 @@ public class AdminController {
         roleService.removeRole(userId, request.getRole());
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+
+    @GetMapping("/dead-letters")
+    public ResponseEntity<List<DeadLetterSummaryResponse>> getDeadLetterSummaries() {
+        return ResponseEntity.ok(deadLetterReplayService.getDeadLetterQueues().stream()
+                .map(deadLetterReplayService::inspect)
+                .toList());
+    }
+
+    @GetMapping("/dead-letters/{queue}")
+    public ResponseEntity<DeadLetterSummaryResponse> getDeadLetterSummary(@PathVariable String queue) {
+        return ResponseEntity.ok(deadLetterReplayService.inspect(queue));
+    }
+
+    @PostMapping("/dead-letters/{queue}/replay")
+    public ResponseEntity<DeadLetterReplayResponse> replayDeadLetters(
+            @PathVariable String queue,
+            @Valid @RequestBody(required = false) ReplayDeadLettersRequest request) {
+        return ResponseEntity.ok(deadLetterReplayService.replay(queue, request));
+    }
+}
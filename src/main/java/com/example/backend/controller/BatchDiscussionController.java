@@ -3,6 +3,7 @@ package com.example.backend.controller;
 import com.example.backend.dto.model.BatchDiscussionDto;
 import com.example.backend.dto.request.discussion.CreateDiscussionRequest;
 import com.example.backend.dto.request.discussion.UpdateDiscussionRequest;
+import com.example.backend.dto.response.pagination.CursorPageResponse;
 import com.example.backend.dto.response.pagination.PaginationResponse;
 import com.example.backend.service.BatchDiscussionService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -49,6 +50,15 @@ public class BatchDiscussionController {
         return ResponseEntity.ok(new PaginationResponse<>(discussions));
     }
 
+    @GetMapping("/batch/{batchId}/scroll")
+    @Operation(summary = "Scroll top-level discussions for a batch using a cursor")
+    public ResponseEntity<CursorPageResponse<BatchDiscussionDto>> scrollDiscussionsForBatch(
+            @PathVariable UUID batchId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(discussionService.scrollDiscussionsForBatch(batchId, cursor, size));
+    }
+
     @GetMapping("/{discussionId}/replies")
     @Operation(summary = "Get replies for a specific discussion")
     public ResponseEntity<PaginationResponse<BatchDiscussionDto>> getRepliesForDiscussion(@PathVariable UUID discussionId, Pageable pageable) {
@@ -4,6 +4,7 @@ import com.example.backend.dto.request.comment.CommentRequest;
 import com.example.backend.dto.request.comment.VoteRequest;
 import com.example.backend.dto.response.comment.CommentResponse;
 import com.example.backend.dto.response.comment.VoteResponse;
+import com.example.backend.dto.response.pagination.CursorPageResponse;
 import com.example.backend.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -46,6 +47,17 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    @GetMapping("/lessons/{lessonId}/comments/threads")
+    @PreAuthorize("hasAnyRole('LMS_STUDENT', 'COURSE_CREATOR')")
+    @Operation(summary = "Get lesson comment threads", description = "Get paginated top-level comments, each with its first replies (up to 10), reply count and a cursor to load more")
+    public ResponseEntity<Page<CommentResponse>> getCommentThreadsForLesson(
+            @PathVariable UUID lessonId,
+            @RequestParam(defaultValue = "3") int replies,
+            Pageable pageable) {
+        Page<CommentResponse> comments = commentService.getCommentThreadsForLesson(lessonId, pageable, replies);
+        return ResponseEntity.ok(comments);
+    }
+
     @PostMapping("/lessons/slug/{lessonSlug}/comments")
     @PreAuthorize("hasAnyRole('LMS_STUDENT', 'COURSE_CREATOR')")
     @Operation(summary = "Create comment by lesson slug", description = "Create a comment using lesson slug (SEO)")
@@ -94,6 +106,16 @@ public class CommentController {
         return ResponseEntity.ok(comment);
     }
 
+    @GetMapping("/comments/{commentId}/replies")
+    @PreAuthorize("hasAnyRole('LMS_STUDENT', 'COURSE_CREATOR')")
+    @Operation(summary = "Load more replies", description = "Get replies below a comment in thread order, continuing from nextRepliesCursor or nextCursor")
+    public ResponseEntity<CursorPageResponse<CommentResponse>> getReplies(
+            @PathVariable UUID commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(commentService.getReplies(commentId, cursor, size));
+    }
+
     @GetMapping("/comments/{commentId}")
     @PreAuthorize("hasAnyRole('LMS_STUDENT', 'COURSE_CREATOR')")
     @Operation(summary = "Get comment by ID", description = "Get a specific comment by its ID (useful for replies)")
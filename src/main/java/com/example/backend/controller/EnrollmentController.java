@@ -3,6 +3,7 @@ package com.example.backend.controller;
 import com.example.backend.dto.request.enrollment.CurrentEnrollmentRequest;
 import com.example.backend.dto.response.enrollment.CurrentEnrollmentResponse;
 import com.example.backend.dto.response.enrollment.EnrollmentResponse;
+import com.example.backend.dto.response.enrollment.WaitlistPositionResponse;
 import com.example.backend.dto.response.live.EnrolledBatchResponse;
 import com.example.backend.dto.response.payment.PaymentResponse;
 import com.example.backend.service.EnrollmentService;
@@ -69,6 +70,19 @@ public class EnrollmentController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @PostMapping("/batches/{batchSlug}/waitlist")
+    @Operation(summary = "Join a batch waitlist", description = "Student joins the waitlist of a full batch and is offered the next free seat")
+    public ResponseEntity<WaitlistPositionResponse> joinBatchWaitlist(@PathVariable String batchSlug) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(enrollmentService.joinBatchWaitlistBySlug(batchSlug));
+    }
+
+    @DeleteMapping("/batches/{batchSlug}/waitlist")
+    @Operation(summary = "Leave a batch waitlist", description = "Student leaves the waitlist of a batch")
+    public ResponseEntity<Void> leaveBatchWaitlist(@PathVariable String batchSlug) {
+        enrollmentService.leaveBatchWaitlistBySlug(batchSlug);
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/enrollments/me")
     @Operation(summary = "Get current user enrollments", description = "Get the enrollment of course or batch current user enroll")
     public ResponseEntity<Page<CurrentEnrollmentResponse>> getCurrentUserEnrollments(
@@ -8,6 +8,7 @@ import com.example.backend.dto.request.batch.UpdateBatchRequest;
 import com.example.backend.dto.request.course.ChapterRequest;
 import com.example.backend.dto.request.course.CourseRequest; 
 import com.example.backend.dto.request.course.LessonRequest;
+import com.example.backend.dto.request.enrollment.BulkEnrollmentRequest;
 import com.example.backend.dto.request.instructor.InstructorIdsRequest;
 import com.example.backend.dto.request.quiz.QuizRequest;
 import com.example.backend.dto.request.quiz.QuizQuestionRequest;
@@ -15,7 +16,9 @@ import com.example.backend.dto.request.quiz.QuizQuestionsRequest;
 import com.example.backend.dto.request.payos.CreatePayOSConfigRequest;
 import com.example.backend.dto.response.enrollment.EnrollmentResponse;
 import com.example.backend.dto.response.enrollment.BatchEnrollmentResponse;
+import com.example.backend.dto.response.enrollment.BulkEnrollmentResponse;
 import com.example.backend.dto.response.pagination.PaginationResponse;
+import com.example.backend.dto.response.statistics.LessonFunnelResponse;
 import com.example.backend.dto.response.statistics.PerformanceReportItem;
 import com.example.backend.dto.response.payos.PayOSConfigResponse;
 import com.example.backend.dto.request.payos.UpdatePayOSConfigRequest;
@@ -28,10 +31,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import jakarta.validation.Valid;
 
 import java.util.List;
@@ -51,6 +56,7 @@ public class InstructorController {
     private final PayOSConfigService payOSConfigService;
     private final JobService jobService;
     private final StatisticsService statisticsService;
+    private final BulkEnrollmentService bulkEnrollmentService;
 
     @PostMapping("/courses")
     public ResponseEntity<CourseDto> createCourse(@RequestBody CourseRequest request) {
@@ -166,6 +172,34 @@ public class InstructorController {
         return ResponseEntity.ok(enrollments);
     }
 
+    @PostMapping(value = "/courses/{courseId}/enrollments/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk enroll students in a course", description = "Instructor enrolls a list of students by email and gets a per-row report")
+    public ResponseEntity<BulkEnrollmentResponse> bulkEnrollInCourse(@PathVariable UUID courseId,
+                                                                     @Valid @RequestBody BulkEnrollmentRequest request) {
+        return ResponseEntity.ok(bulkEnrollmentService.enrollInCourse(courseId, request.getEmails()));
+    }
+
+    @PostMapping(value = "/courses/{courseId}/enrollments/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Bulk enroll students in a course from CSV", description = "Instructor uploads a CSV with one email per line and gets a per-row report")
+    public ResponseEntity<BulkEnrollmentResponse> bulkEnrollInCourseFromCsv(@PathVariable UUID courseId,
+                                                                            @RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(bulkEnrollmentService.enrollInCourse(courseId, bulkEnrollmentService.readEmails(file)));
+    }
+
+    @PostMapping(value = "/batches/{batchId}/enrollments/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk enroll students in a batch", description = "Instructor enrolls a list of students by email and gets a per-row report")
+    public ResponseEntity<BulkEnrollmentResponse> bulkEnrollInBatch(@PathVariable UUID batchId,
+                                                                    @Valid @RequestBody BulkEnrollmentRequest request) {
+        return ResponseEntity.ok(bulkEnrollmentService.enrollInBatch(batchId, request.getEmails()));
+    }
+
+    @PostMapping(value = "/batches/{batchId}/enrollments/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Bulk enroll students in a batch from CSV", description = "Instructor uploads a CSV with one email per line and gets a per-row report")
+    public ResponseEntity<BulkEnrollmentResponse> bulkEnrollInBatchFromCsv(@PathVariable UUID batchId,
+                                                                           @RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok(bulkEnrollmentService.enrollInBatch(batchId, bulkEnrollmentService.readEmails(file)));
+    }
+
     // Quiz Management APIs
     @PostMapping("/quizzes")
     @Operation(summary = "Create a new quiz", description = "Instructor creates a new quiz for a course")
@@ -300,6 +334,15 @@ public class InstructorController {
         return ResponseEntity.ok(new PaginationResponse<>(report));
     }
 
+    @GetMapping("/statistics/courses/{courseId}/lesson-funnel")
+    @Operation(summary = "Get lesson completion funnel", description = "Retrieves per-lesson started/completed counts in study order and daily totals for the last given days.")
+    public ResponseEntity<LessonFunnelResponse> getLessonFunnel(
+            @PathVariable UUID courseId,
+            @RequestParam(defaultValue = "30") int days
+    ) {
+        return ResponseEntity.ok(statisticsService.getLessonFunnel(courseId, days));
+    }
+
     @GetMapping("/statistics/batch-performance")
     @Operation(summary = "Get batch performance report", description = "Retrieves a paginated and sortable list of batch performance metrics.")
     public ResponseEntity<PaginationResponse<PerformanceReportItem>> getBatchPerformance(Pageable pageable) {
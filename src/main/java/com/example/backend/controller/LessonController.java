@@ -1,14 +1,22 @@
 package com.example.backend.controller;
 
 import com.example.backend.dto.model.LessonDto;
+import com.example.backend.dto.response.lesson.HlsPlaylistResponse;
+import com.example.backend.service.HlsPlaybackService;
 import com.example.backend.service.LessonService;
+import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.time.Instant;
+
 
 @RestController
 @RequestMapping("/lessons")
@@ -16,9 +24,32 @@ import org.springframework.web.bind.annotation.RestController;
 public class LessonController {
 
     private final LessonService lessonService;
+    private final HlsPlaybackService hlsPlaybackService;
 
     @GetMapping("/{slug}")
     public ResponseEntity<LessonDto> getLessonBySlug(@PathVariable String slug) {
         return ResponseEntity.ok(lessonService.getLessonBySlug(slug));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{slug}/hls/master.m3u8")
+    @Operation(summary = "Get HLS master playlist", description = "Returns the adaptive-bitrate master playlist for the lesson video.")
+    public ResponseEntity<String> getMasterPlaylist(@PathVariable String slug) {
+        return toPlaylistResponse(hlsPlaybackService.getMasterPlaylist(slug));
+    }
+
+    @GetMapping("/{slug}/hls/{rendition}/{playlist:.+\\.m3u8}")
+    @Operation(summary = "Get HLS variant playlist", description = "Returns a rendition playlist with presigned segment URLs.")
+    public ResponseEntity<String> getVariantPlaylist(@PathVariable String slug,
+                                                     @PathVariable String rendition,
+                                                     @PathVariable String playlist) {
+        return toPlaylistResponse(hlsPlaybackService.getVariantPlaylist(slug, rendition, playlist));
+    }
+
+    private ResponseEntity<String> toPlaylistResponse(HlsPlaylistResponse playlist) {
+        long maxAge = Math.max(0, Duration.between(Instant.now(), playlist.getExpiresAt()).getSeconds());
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(HlsPlaybackService.PLAYLIST_MEDIA_TYPE))
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(maxAge)).cachePrivate())
+                .body(playlist.getContent());
+    }
+}
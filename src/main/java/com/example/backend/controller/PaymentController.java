@@ -1,5 +1,6 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.response.pagination.CursorPageResponse;
 import com.example.backend.dto.response.payment.PaymentResponse;
 import com.example.backend.dto.response.payment.TransactionListResponse;
 import com.example.backend.service.PaymentService;
@@ -55,4 +56,17 @@ public class PaymentController {
         TransactionListResponse response = paymentService.getTransactions(userType, status, userId, page, size, sort);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/transactions/scroll")
+    @Operation(summary = "Scroll transactions", description = "Get transactions newest first using an opaque cursor instead of page numbers")
+    public ResponseEntity<CursorPageResponse<TransactionListResponse.TransactionSummaryResponse>> scrollTransactions(
+            @RequestParam(required = false) String userType,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+
+        UUID userId = UUID.fromString(authentication.getName());
+        return ResponseEntity.ok(paymentService.scrollTransactions(userType, status, userId, cursor, size));
+    }
 }
@@ -1,10 +1,14 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.request.progress.LessonHeartbeatRequest;
 import com.example.backend.dto.response.progress.CourseProgressResponse;
+import com.example.backend.service.ProgressHeartbeatService;
 import com.example.backend.service.ProgressTrackingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
@@ -18,6 +22,7 @@ import java.util.UUID;
 public class ProgressTrackingController {
     
     private final ProgressTrackingService progressTrackingService;
+    private final ProgressHeartbeatService progressHeartbeatService;
     
     @PostMapping("/lessons/{lessonId}/progress")
     @Operation(summary = "Mark lesson as completed", 
@@ -28,6 +33,16 @@ public class ProgressTrackingController {
         return ResponseEntity.ok().build();
     }
     
+    @PostMapping("/lessons/{lessonId}/heartbeat")
+    @Operation(summary = "Report video playback",
+               description = "Report playback position and watch time; buffered and written in batches")
+    public ResponseEntity<Void> recordHeartbeat(@PathVariable UUID lessonId, @Valid @RequestBody LessonHeartbeatRequest request) {
+        if (!progressHeartbeatService.record(getCurrentUserEmail(), lessonId, request)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+    
     @GetMapping("/courses/{courseId}/my-progress")
     @Operation(summary = "Get course progress", 
                description = "Get detailed progress information for a specific course")
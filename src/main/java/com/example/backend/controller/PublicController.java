@@ -1,12 +1,17 @@
 package com.example.backend.controller;
 
+import com.example.backend.constant.EntityType;
 import com.example.backend.dto.model.*;
+import com.example.backend.dto.response.pagination.CursorPageResponse;
 import com.example.backend.dto.response.pagination.PaginationResponse;
+import com.example.backend.dto.response.review.CourseRatingSummaryResponse;
 import com.example.backend.dto.response.review.ReviewResponse;
 import com.example.backend.service.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,25 +28,49 @@ public class PublicController {
     private final LessonService lessonService;
     private final UserService userService;
     private final BatchService batchService;
+    private final CatalogCacheService catalogCacheService;
 
-    @GetMapping("/courses")
-    public ResponseEntity<PaginationResponse<CoursePublicDto>> getPublishedCourses(
+    @GetMapping(value = "/courses", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getPublishedCourses(
             Pageable pageable,
             @RequestParam(required = false) List<String> tags,
             @RequestParam(required = false) List<String> labels,
             @RequestParam(required = false) String search) {
-        Page<CoursePublicDto> courses = courseService.getPublishedCourses(pageable, tags, labels, search);
-        return ResponseEntity.ok(new PaginationResponse<>(courses));
+        return toCachedResponse(catalogCacheService.get(EntityType.COURSE,
+                CatalogCacheService.listKey(pageable, tags, labels, search),
+                () -> new PaginationResponse<>(courseService.getPublishedCourses(pageable, tags, labels, search))));
     }
 
-    @GetMapping("/courses/{slug}")
-    public ResponseEntity<CoursePublicDto> getCourseDetails(@PathVariable String slug) {
-        return ResponseEntity.ok(courseService.getCourseBySlugPublic(slug));
+    @GetMapping(value = "/courses/facets", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getCatalogFacets(
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) List<String> labels,
+            @RequestParam(required = false) String search) {
+        return toCachedResponse(catalogCacheService.get(EntityType.COURSE,
+                CatalogCacheService.facetsKey(tags, labels, search),
+                () -> courseService.getCatalogFacets(tags, labels, search)));
     }
 
-    @GetMapping("/courses/{slug}/chapters")
-    public ResponseEntity<List<ChapterPublicDto>> getCourseChapters(@PathVariable String slug) {
-        return ResponseEntity.ok(chapterService.getChaptersByCoursePublic(slug));
+    @GetMapping("/courses/scroll")
+    public ResponseEntity<CursorPageResponse<CoursePublicDto>> scrollPublishedCourses(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) List<String> labels,
+            @RequestParam(required = false) String search) {
+        return ResponseEntity.ok(courseService.scrollPublishedCourses(cursor, size, tags, labels, search));
+    }
+
+    @GetMapping(value = "/courses/{slug}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getCourseDetails(@PathVariable String slug) {
+        return toCachedResponse(catalogCacheService.get(EntityType.COURSE, "detail:" + slug,
+                () -> courseService.getCourseBySlugPublic(slug)));
+    }
+
+    @GetMapping(value = "/courses/{slug}/chapters", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getCourseChapters(@PathVariable String slug) {
+        return toCachedResponse(catalogCacheService.get(EntityType.COURSE, "chapters:" + slug,
+                () -> chapterService.getChaptersByCoursePublic(slug)));
     }
 
     @GetMapping("/courses/{courseSlug}/reviews")
@@ -52,12 +81,25 @@ public class PublicController {
         return ResponseEntity.ok(new PaginationResponse<>(reviews));
     }
 
+    @GetMapping("/courses/{courseSlug}/reviews/scroll")
+    public ResponseEntity<CursorPageResponse<ReviewResponse>> scrollCourseReviews(
+            @PathVariable String courseSlug,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reviewService.scrollApprovedReviewsByCourseSlug(courseSlug, cursor, size));
+    }
+
     @GetMapping("/courses/{courseSlug}/average-rating")
     public ResponseEntity<Double> getAverageRating(@PathVariable String courseSlug) {
         Double avg = reviewService.getAverageRatingForCourseSlug(courseSlug);
         return ResponseEntity.ok(avg != null ? avg : 0.0);
     }
 
+    @GetMapping("/courses/{courseSlug}/rating-summary")
+    public ResponseEntity<CourseRatingSummaryResponse> getRatingSummary(@PathVariable String courseSlug) {
+        return ResponseEntity.ok(reviewService.getRatingSummaryForCourseSlug(courseSlug));
+    }
+
     @GetMapping("/lessons/{lessonSlug}")
     public ResponseEntity<LessonPublicDto> getLessonPublic(@PathVariable String lessonSlug) {
         return ResponseEntity.ok(lessonService.getLessonBySlugPublic(lessonSlug));
@@ -68,18 +110,28 @@ public class PublicController {
         return ResponseEntity.ok(userService.getUserById(userId));
     }
 
-    @GetMapping("/batches")
-    public ResponseEntity<PaginationResponse<BatchDto>> getPublishedBatches(
+    @GetMapping(value = "/batches", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getPublishedBatches(
             Pageable pageable,
             @RequestParam(required = false) List<String> tags,
             @RequestParam(required = false) List<String> labels,
             @RequestParam(required = false) String search) {
-        Page<BatchDto> batches = batchService.getPublishedBatches(pageable, tags, labels, search);
-        return ResponseEntity.ok(new PaginationResponse<>(batches));
+        return toCachedResponse(catalogCacheService.get(EntityType.BATCH,
+                CatalogCacheService.listKey(pageable, tags, labels, search),
+                () -> new PaginationResponse<>(batchService.getPublishedBatches(pageable, tags, labels, search))));
     }
 
     @GetMapping("/batches/{slug}")
     public ResponseEntity<BatchDto> getBatchDetails(@PathVariable String slug) {
         return ResponseEntity.ok(batchService.getBatchBySlug(slug));
     }
+
+    // Spring answers If-None-Match with 304 itself when the ETag matches
+    private ResponseEntity<byte[]> toCachedResponse(CatalogCacheService.CachedResponse cached) {
+        return ResponseEntity.ok()
+                .eTag(cached.getEtag())
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.getBody());
+    }
 }
@@ -0,0 +1,17 @@
+package com.example.backend.dto.message;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EnrollmentAccessMessage {
+    private UUID userId;
+    private UUID courseId;
+    private UUID batchId;
+    private boolean enrolled;
+}
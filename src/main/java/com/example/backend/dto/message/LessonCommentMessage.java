@@ -0,0 +1,34 @@
+package com.example.backend.dto.message;
+
+import com.example.backend.dto.response.comment.CommentResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Pushed to /topic/lesson/{lessonId}/comments. {@code comment} is set for CREATED and UPDATED,
+ * the vote counts for VOTES. Per-user fields of the comment (canEdit, canDelete, userVote) are left empty.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LessonCommentMessage {
+    private MessageType type;
+    private UUID lessonId;
+    private UUID commentId;
+    private UUID parentId;
+    private CommentResponse comment;
+    private Integer upvotes;
+    private Integer downvotes;
+
+    public enum MessageType {
+        CREATED,
+        UPDATED,
+        DELETED,
+        VOTES
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.backend.dto.message;
+
+import com.example.backend.constant.SlugScope;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SlugChangedMessage {
+    private SlugScope scope;
+    private String slug;
+}
@@ -1,9 +1,11 @@
 package com.example.backend.dto.model;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Data
+@NoArgsConstructor
 public class InstructorDto {
     private UUID id;
     private String fullName;
@@ -13,4 +13,6 @@ public class LessonDto {
     private String fileUrl;
     private Integer position;
     private QuizDto quizDto;
+    private String previousLessonSlug;
+    private String nextLessonSlug;
 }
\ No newline at end of file
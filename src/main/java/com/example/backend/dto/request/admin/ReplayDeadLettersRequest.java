@@ -0,0 +1,15 @@
+package com.example.backend.dto.request.admin;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+@Data
+public class ReplayDeadLettersRequest {
+    // Only replay messages whose failure reason matches; null replays everything scanned
+    private String reason;
+
+    @Min(value = 1, message = "maxMessages must be at least 1")
+    @Max(value = 10000, message = "maxMessages must not exceed 10000")
+    private Integer maxMessages;
+}
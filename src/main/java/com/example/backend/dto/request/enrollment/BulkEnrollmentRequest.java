@@ -0,0 +1,12 @@
+package com.example.backend.dto.request.enrollment;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkEnrollmentRequest {
+    @NotEmpty(message = "At least one email is required")
+    private List<String> emails;
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto.request.progress;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class LessonHeartbeatRequest {
+
+    @NotNull(message = "Position is required")
+    @Min(value = 0, message = "Position must not be negative")
+    private Integer positionSeconds;
+
+    // Seconds watched since the previous heartbeat
+    @Min(value = 0, message = "Watched seconds must not be negative")
+    private Integer watchedSeconds;
+}
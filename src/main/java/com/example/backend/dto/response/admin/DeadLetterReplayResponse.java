@@ -0,0 +1,20 @@
+package com.example.backend.dto.response.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterReplayResponse {
+
+    private String queue;
+    private int scanned;
+    private int replayed;
+    private int skipped;
+    private int jobsUpdated;
+    private boolean aborted;
+}
@@ -0,0 +1,30 @@
+package com.example.backend.dto.response.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterSummaryResponse {
+
+    private String queue;
+    private int inspected;
+    private List<ReasonGroup> reasons;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReasonGroup {
+        private String reason;
+        private int count;
+        private List<UUID> sampleJobIds;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto.response.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogFacetsResponse {
+    private List<FacetCount> tags;
+    private List<FacetCount> labels;
+}
@@ -0,0 +1,14 @@
+package com.example.backend.dto.response.catalog;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCount {
+    private String facet;
+    private String name;
+    private Long count;
+}
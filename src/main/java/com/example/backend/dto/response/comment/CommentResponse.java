@@ -17,6 +17,9 @@ public class CommentResponse {
     private String content;
     private UUID parentId;
     private List<CommentResponse> replies;
+    private Integer depth;
+    private Integer replyCount;
+    private String nextRepliesCursor; // set when the thread has more replies than the preview shows
     private Integer upvotes;
     private Integer downvotes;
     private Boolean canEdit;
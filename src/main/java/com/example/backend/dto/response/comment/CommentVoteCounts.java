@@ -0,0 +1,13 @@
+package com.example.backend.dto.response.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentVoteCounts {
+    private Integer upvotes;
+    private Integer downvotes;
+}
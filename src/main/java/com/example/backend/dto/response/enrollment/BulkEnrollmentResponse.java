@@ -0,0 +1,20 @@
+package com.example.backend.dto.response.enrollment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEnrollmentResponse {
+    private int total;
+    private int enrolled;
+    private int alreadyEnrolled;
+    private int failed;
+    private List<BulkEnrollmentRowResult> rows;
+}
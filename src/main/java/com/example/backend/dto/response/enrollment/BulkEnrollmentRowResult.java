@@ -0,0 +1,28 @@
+package com.example.backend.dto.response.enrollment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEnrollmentRowResult {
+    private int row;
+    private String email;
+    private UUID userId;
+    private Status status;
+
+    public enum Status {
+        ENROLLED,
+        ALREADY_ENROLLED,
+        BATCH_FULL,
+        USER_NOT_FOUND,
+        INVALID_EMAIL,
+        DUPLICATE
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto.response.enrollment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistPositionResponse {
+    private UUID batchId;
+    private long position;
+}
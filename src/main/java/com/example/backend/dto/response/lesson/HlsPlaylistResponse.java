@@ -0,0 +1,15 @@
+package com.example.backend.dto.response.lesson;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HlsPlaylistResponse {
+    private String content;
+    private Instant expiresAt;
+}
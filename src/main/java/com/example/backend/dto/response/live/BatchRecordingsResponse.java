@@ -29,6 +29,7 @@ public class BatchRecordingsResponse {
         private String title;
         private String description;
         private String objectName;
+        private String videoUrl;
         private Integer durationSeconds;
         private OffsetDateTime recordedAt;
         private String instructorName;
@@ -0,0 +1,35 @@
+package com.example.backend.dto.response.pagination;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorPageResponse<T> {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorPageResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    public static int clampSize(int requested) {
+        return Math.min(Math.max(requested, 1), MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Builds a page from rows fetched with limit {@code size + 1}; the extra row only signals that a next page exists.
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int size, Function<List<E>, List<T>> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPageResponse<>(mapper.apply(page), nextCursor);
+    }
+}
@@ -19,4 +19,6 @@ public class LessonProgressResponse {
     private CourseProgressStatus status;
     private OffsetDateTime completedAt;
     private Integer duration;
+    private Integer lastPositionSeconds;
+    private Long watchTimeSeconds;
 }
@@ -0,0 +1,17 @@
+package com.example.backend.dto.response.review;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@Builder
+public class CourseRatingSummaryResponse {
+    private UUID courseId;
+    private double averageRating;
+    private long reviewCount;
+    // Number of reviews per star rating, keyed 1 through 5
+    private Map<Integer, Integer> histogram;
+}
@@ -0,0 +1,14 @@
+package com.example.backend.dto.response.statistics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LessonFunnelDataPoint {
+    private String date;
+    private Long started;
+    private Long completed;
+}
@@ -0,0 +1,22 @@
+package com.example.backend.dto.response.statistics;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@Builder
+public class LessonFunnelItem {
+    private UUID lessonId;
+    private String lessonTitle;
+    private UUID chapterId;
+    private String chapterTitle;
+    private long started;
+    private long completed;
+    // Share of enrolled students who completed the lesson, in percent
+    private BigDecimal completionRate;
+    // Students who completed the previous lesson but not this one
+    private long dropOff;
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto.response.statistics;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+public class LessonFunnelResponse {
+    private UUID courseId;
+    private String courseTitle;
+    private long enrolledCount;
+    private List<LessonFunnelItem> lessons;
+    private List<LessonFunnelDataPoint> dailyDataPoints;
+}
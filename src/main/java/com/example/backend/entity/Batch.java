@@ -80,6 +80,10 @@ public class Batch {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // Generated by the database (see V1_1_7__add_full_text_search.sql); never written by JPA
+    @Column(name = "search_vector", columnDefinition = "tsvector", insertable = false, updatable = false)
+    private String searchVector;
+
     @OneToMany(mappedBy = "batch", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<BatchInstructor> instructors;
 }
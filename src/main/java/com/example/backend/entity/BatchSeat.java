@@ -0,0 +1,47 @@
+package com.example.backend.entity;
+
+import com.example.backend.constant.SeatStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * A single seat of a capacity-limited batch. Seats are claimed and released by the native
+ * queries in {@link com.example.backend.repository.BatchSeatRepository}; never written by JPA.
+ */
+@Entity
+@Table(name = "batch_seats", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"batch_id", "seat_no"})
+})
+@Getter
+@Setter
+public class BatchSeat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "batch_id", nullable = false)
+    private Batch batch;
+
+    @Column(name = "seat_no", nullable = false)
+    private Integer seatNo;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SeatStatus status;
+
+    @Column(name = "held_until")
+    private OffsetDateTime heldUntil;
+
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
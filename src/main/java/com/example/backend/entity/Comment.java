@@ -38,15 +38,33 @@ public class Comment {
     @JoinColumn(name = "parent_id")
     private Comment parent;
 
+    // Top-level comment of the thread; null for top-level comments themselves
+    @Column(name = "root_id", updatable = false)
+    private UUID rootId;
+
+    // Materialized path, see CommentPath
+    @Column(nullable = false, updatable = false)
+    private String path;
+
+    @Column(nullable = false, updatable = false)
+    @Builder.Default
+    private Integer depth = 0;
+
+    // Visible replies in the thread; maintained with atomic updates, never written from the entity
+    @Column(name = "reply_count", insertable = false, updatable = false)
+    @Builder.Default
+    private Integer replyCount = 0;
+
     // Child comments (replies)
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Comment> replies;
 
-    @Column(name = "upvotes", nullable = false)
+    // Vote counters are only moved by the atomic statements in CommentVoteRepository
+    @Column(name = "upvotes", nullable = false, updatable = false)
     @Builder.Default
     private Integer upvotes = 0;
 
-    @Column(name = "downvotes", nullable = false)
+    @Column(name = "downvotes", nullable = false, updatable = false)
     @Builder.Default
     private Integer downvotes = 0;
 
@@ -58,13 +58,15 @@ public class Course {
     @Column(name = "amount_usd")
     private BigDecimal amountUsd;
 
-    @Column
+    // Only ever moved by CourseRepository.adjustEnrollments and the reconcile roll-up
+    @Column(insertable = false, updatable = false)
     private Integer enrollments;
 
     @Column
     private Integer lessons;
 
-    @Column
+    // Maintained from course_rating_stats by the track_course_rating trigger on reviews
+    @Column(insertable = false, updatable = false)
     private BigDecimal rating;
 
     @Column
@@ -90,6 +92,10 @@ public class Course {
     @Column(name = "modified_by")
     private UUID modifiedBy;
 
+    // Generated by the database (see V1_1_7__add_full_text_search.sql); never written by JPA
+    @Column(name = "search_vector", columnDefinition = "tsvector", insertable = false, updatable = false)
+    private String searchVector;
+
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Chapter> chapters;
 
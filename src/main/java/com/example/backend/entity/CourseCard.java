@@ -0,0 +1,103 @@
+package com.example.backend.entity;
+
+import com.example.backend.constant.CourseStatus;
+import com.example.backend.dto.model.InstructorDto;
+import com.example.backend.dto.model.LabelDto;
+import com.example.backend.dto.model.TagDto;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read model for public catalog cards, one row per published course.
+ * Rows are rebuilt by the refresh_course_card procedure (see V1_1_9__create_course_cards.sql); never written by JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "course_cards")
+@Data
+@NoArgsConstructor
+public class CourseCard {
+
+    @Id
+    @Column(name = "course_id")
+    private UUID id;
+
+    private String title;
+
+    private String slug;
+
+    @Column(name = "short_introduction")
+    private String shortIntroduction;
+
+    private String description;
+
+    private String image;
+
+    @Column(name = "video_link")
+    private String videoLink;
+
+    @Enumerated(EnumType.STRING)
+    private CourseStatus status;
+
+    @Column(name = "paid_course")
+    private Boolean paidCourse;
+
+    @Column(name = "selling_price")
+    private BigDecimal sellingPrice;
+
+    private String currency;
+
+    private Integer enrollments;
+
+    private Integer lessons;
+
+    private BigDecimal rating;
+
+    private String language;
+
+    @Column(name = "target_audience")
+    private String targetAudience;
+
+    @Column(name = "skill_level")
+    private String skillLevel;
+
+    @Column(name = "learner_profile_desc")
+    private String learnerProfileDesc;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tag_names", columnDefinition = "text[]")
+    private String[] tagNames;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "label_names", columnDefinition = "text[]")
+    private String[] labelNames;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<TagDto> tags;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<LabelDto> labels;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<InstructorDto> instructors;
+
+    @Column(name = "search_vector", columnDefinition = "tsvector")
+    private String searchVector;
+
+    private OffsetDateTime creation;
+
+    @Column(name = "refreshed_at")
+    private OffsetDateTime refreshedAt;
+}
@@ -40,6 +40,16 @@ public class CourseProgress {
     @Column(columnDefinition = "course_progress_status_enum default 'INCOMPLETE'")
     private CourseProgressStatus status;
 
+    // Written in batches by ProgressHeartbeatService
+    @Column(name = "last_position_seconds", nullable = false)
+    private Integer lastPositionSeconds = 0;
+
+    @Column(name = "watch_time_seconds", nullable = false)
+    private Long watchTimeSeconds = 0L;
+
+    @Column(name = "last_watched_at")
+    private OffsetDateTime lastWatchedAt;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private OffsetDateTime creation;
@@ -0,0 +1,49 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Per-course rating aggregate: review count, rating sum and a 1-5 star histogram.
+ * Rows are maintained by the track_course_rating trigger on reviews (see V1_2_5__create_course_rating_stats.sql); never written by JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "course_rating_stats")
+@Data
+@NoArgsConstructor
+public class CourseRatingStats {
+
+    @Id
+    @Column(name = "course_id")
+    private UUID courseId;
+
+    @Column(name = "review_count")
+    private Integer reviewCount;
+
+    @Column(name = "rating_sum")
+    private Long ratingSum;
+
+    @Column(name = "stars_1")
+    private Integer stars1;
+
+    @Column(name = "stars_2")
+    private Integer stars2;
+
+    @Column(name = "stars_3")
+    private Integer stars3;
+
+    @Column(name = "stars_4")
+    private Integer stars4;
+
+    @Column(name = "stars_5")
+    private Integer stars5;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+}
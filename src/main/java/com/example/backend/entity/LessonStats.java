@@ -0,0 +1,35 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Per-lesson completion funnel counters.
+ * Rows are maintained by the track_lesson_stats trigger on course_progress (see V1_2_2__create_lesson_stats.sql); never written by JPA.
+ */
+@Entity
+@Immutable
+@Table(name = "lesson_stats")
+@Data
+@NoArgsConstructor
+public class LessonStats {
+
+    @Id
+    @Column(name = "lesson_id")
+    private UUID lessonId;
+
+    @Column(name = "course_id")
+    private UUID courseId;
+
+    private Integer started;
+
+    private Integer completed;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+}
@@ -0,0 +1,17 @@
+package com.example.backend.event;
+
+import com.example.backend.constant.EntityType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Published when a course or batch changes in a way that is visible in the public catalog.
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogChangedEvent {
+    private final EntityType entityType;
+    private final UUID entityId;
+}
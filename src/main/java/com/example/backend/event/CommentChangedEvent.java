@@ -0,0 +1,15 @@
+package com.example.backend.event;
+
+import com.example.backend.dto.message.LessonCommentMessage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a lesson comment is created, edited, deleted or voted on, carrying the message
+ * to push to the lesson's comment stream once the change commits.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentChangedEvent {
+    private final LessonCommentMessage message;
+}
@@ -0,0 +1,16 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published when the counters shown on course cards (enrollments, rating) were synced for the
+ * given courses. Unlike {@link CatalogChangedEvent} it does not rebuild the cards.
+ */
+@Getter
+@AllArgsConstructor
+public class CourseCountersChangedEvent {
+    private final List<String> courseSlugs;
+}
@@ -0,0 +1,15 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Published when chapters or lessons of a course are added, removed or reordered.
+ */
+@Getter
+@AllArgsConstructor
+public class CourseOutlineChangedEvent {
+    private final UUID courseId;
+}
@@ -0,0 +1,19 @@
+package com.example.backend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Published when a user gains or loses access to a course or batch. Exactly one of
+ * {@code courseId} and {@code batchId} is set.
+ */
+@Getter
+@AllArgsConstructor
+public class EnrollmentChangedEvent {
+    private final UUID userId;
+    private final UUID courseId;
+    private final UUID batchId;
+    private final boolean enrolled;
+}
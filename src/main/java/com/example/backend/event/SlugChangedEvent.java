@@ -0,0 +1,15 @@
+package com.example.backend.event;
+
+import com.example.backend.constant.SlugScope;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a slug stops pointing at its entity, because the entity was renamed or deleted.
+ */
+@Getter
+@AllArgsConstructor
+public class SlugChangedEvent {
+    private final SlugScope scope;
+    private final String slug;
+}
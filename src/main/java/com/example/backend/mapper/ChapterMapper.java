@@ -5,6 +5,7 @@ import com.example.backend.dto.model.ChapterPublicDto;
 import com.example.backend.dto.request.course.ChapterRequest;
 import com.example.backend.entity.Chapter;
 import com.example.backend.entity.Lesson;
+import com.example.backend.service.CourseOutlineService.ChapterOutline;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -62,6 +63,18 @@ public class ChapterMapper {
         return dto;
     }
 
+    public ChapterPublicDto toPublicDto(ChapterOutline chapter) {
+        ChapterPublicDto dto = new ChapterPublicDto();
+        dto.setId(chapter.getId());
+        dto.setTitle(chapter.getTitle());
+        dto.setSlug(chapter.getSlug());
+        dto.setPosition(chapter.getPosition());
+        dto.setLessons(chapter.getLessons().stream()
+                .map(lessonMapper::toPublicDto)
+                .collect(Collectors.toList()));
+        return dto;
+    }
+
     public Chapter toEntity(ChapterRequest request) {
         Chapter chapter = new Chapter();
         chapter.setTitle(request.getTitle());
@@ -4,15 +4,13 @@ import com.example.backend.dto.model.CommentDto;
 import com.example.backend.dto.request.comment.CommentRequest;
 import com.example.backend.dto.response.comment.CommentResponse;
 import com.example.backend.entity.Comment;
-import com.example.backend.entity.CommentVote;
 import com.example.backend.entity.User;
 
 import java.util.Collections;
-import java.util.List;
 
 public final class CommentMapper {
 
-    public static CommentDto toDto(Comment comment, User currentUser, List<CommentVote> votes) {
+    public static CommentDto toDto(Comment comment, User currentUser, Boolean userVote) {
         if (comment == null) {
             return null;
         }
@@ -35,15 +33,9 @@ public final class CommentMapper {
             dto.setCanEdit(comment.getAuthor().getId().equals(currentUser.getId()));
             dto.setCanDelete(comment.getAuthor().getId().equals(currentUser.getId()) || isAdminUser(currentUser));
             
-            // Set user vote
-            CommentVote userVote = votes.stream()
-                .filter(vote -> vote.getUser().getId().equals(currentUser.getId()) && 
-                               vote.getComment().getId().equals(comment.getId()))
-                .findFirst()
-                .orElse(null);
-            
+            // Set user vote (true = upvote, false = downvote, null = no vote)
             if (userVote != null) {
-                dto.setUserVote(userVote.getVoteType() ? "upvote" : "downvote");
+                dto.setUserVote(userVote ? "upvote" : "downvote");
             }
         }
         
@@ -53,7 +45,7 @@ public final class CommentMapper {
         return dto;
     }
 
-    public static CommentResponse toResponse(Comment comment, User currentUser, List<CommentVote> votes) {
+    public static CommentResponse toResponse(Comment comment, User currentUser, Boolean userVote) {
         if (comment == null) {
             return null;
         }
@@ -66,6 +58,8 @@ public final class CommentMapper {
         response.setAuthorImage(comment.getAuthor() != null ? comment.getAuthor().getUserImage() : null);
         response.setContent(comment.getContent());
         response.setParentId(comment.getParent() != null ? comment.getParent().getId() : null);
+        response.setDepth(comment.getDepth());
+        response.setReplyCount(comment.getReplyCount());
         response.setUpvotes(comment.getUpvotes());
         response.setDownvotes(comment.getDownvotes());
         response.setCreation(comment.getCreation());
@@ -76,15 +70,9 @@ public final class CommentMapper {
             response.setCanEdit(comment.getAuthor().getId().equals(currentUser.getId()));
             response.setCanDelete(comment.getAuthor().getId().equals(currentUser.getId()) || isAdminUser(currentUser));
             
-            // Set user vote
-            CommentVote userVote = votes.stream()
-                .filter(vote -> vote.getUser().getId().equals(currentUser.getId()) && 
-                               vote.getComment().getId().equals(comment.getId()))
-                .findFirst()
-                .orElse(null);
-            
+            // Set user vote (true = upvote, false = downvote, null = no vote)
             if (userVote != null) {
-                response.setUserVote(userVote.getVoteType() ? "upvote" : "downvote");
+                response.setUserVote(userVote ? "upvote" : "downvote");
             }
         }
         
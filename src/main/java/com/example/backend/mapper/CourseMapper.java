@@ -4,6 +4,7 @@ import com.example.backend.dto.model.*;
 import com.example.backend.dto.request.course.CourseRequest;
 import com.example.backend.entity.Chapter;
 import com.example.backend.entity.Course;
+import com.example.backend.entity.CourseCard;
 import com.example.backend.entity.Label;
 import com.example.backend.entity.Tag;
 import com.example.backend.service.FileUploadService;
@@ -112,6 +113,35 @@ public class CourseMapper {
         return dto;
     }
 
+    public CoursePublicDto toPublicDto(CourseCard card) {
+        if (card == null) {
+            return null;
+        }
+        CoursePublicDto dto = new CoursePublicDto();
+        dto.setId(card.getId());
+        dto.setTitle(card.getTitle());
+        dto.setSlug(card.getSlug());
+        dto.setShortIntroduction(card.getShortIntroduction());
+        dto.setDescription(card.getDescription());
+        dto.setImage(card.getImage());
+        dto.setStatus(card.getStatus());
+        dto.setSellingPrice(card.getSellingPrice());
+        dto.setCurrency(card.getCurrency());
+        dto.setEnrollments(card.getEnrollments());
+        dto.setLessons(card.getLessons());
+        dto.setRating(card.getRating() != null ? card.getRating().doubleValue() : null);
+        dto.setLanguage(card.getLanguage());
+        dto.setTags(card.getTags());
+        dto.setLabels(card.getLabels());
+        dto.setTargetAudience(card.getTargetAudience());
+        dto.setSkillLevel(card.getSkillLevel());
+        dto.setLearnerProfileDesc(card.getLearnerProfileDesc());
+        dto.setPaidCourse(card.getPaidCourse());
+        dto.setVideoLink(card.getVideoLink());
+        dto.setInstructors(card.getInstructors());
+        return dto;
+    }
+
     public static Course toEntity(CourseRequest request) {
         if (request == null) {
             return null;
@@ -4,6 +4,7 @@ import com.example.backend.dto.model.LessonDto;
 import com.example.backend.dto.model.LessonPublicDto;
 import com.example.backend.dto.request.course.LessonRequest;
 import com.example.backend.entity.Lesson;
+import com.example.backend.service.CourseOutlineService.LessonOutline;
 import com.example.backend.service.FileUploadService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -44,6 +45,15 @@ public class LessonMapper {
         return dto;
     }
 
+    public LessonPublicDto toPublicDto(LessonOutline lesson) {
+        LessonPublicDto dto = new LessonPublicDto();
+        dto.setId(lesson.getId());
+        dto.setTitle(lesson.getTitle());
+        dto.setSlug(lesson.getSlug());
+        dto.setPosition(lesson.getPosition());
+        return dto;
+    }
+
     public Lesson toEntity(LessonRequest request) {
         Lesson lesson = new Lesson();
         lesson.setTitle(request.getTitle());
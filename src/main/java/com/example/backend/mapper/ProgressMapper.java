@@ -5,6 +5,8 @@ import com.example.backend.dto.response.progress.CourseProgressResponse;
 import com.example.backend.dto.response.progress.ChapterProgressResponse;
 import com.example.backend.dto.response.progress.LessonProgressResponse;
 import com.example.backend.entity.*;
+import com.example.backend.service.CourseOutlineService.CourseOutline;
+import com.example.backend.service.CourseOutlineService.LessonOutline;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -18,24 +20,22 @@ public class ProgressMapper {
     public CourseProgressResponse mapToCourseProgressResponse(
             UUID courseId,
             Enrollment enrollment,
-            List<Chapter> chapters,
+            CourseOutline outline,
             Map<UUID, CourseProgress> progressMap,
-            Map<UUID, List<Lesson>> lessonsByChapter,
-            int completedLessons,
-            int totalLessons) {
+            int completedLessons) {
         
-        List<ChapterProgressResponse> chapterResponses = chapters.stream()
+        List<ChapterProgressResponse> chapterResponses = outline.getChapters().stream()
                 .map(chapter -> {
-                    List<Lesson> chapterLessons = lessonsByChapter.getOrDefault(chapter.getId(), List.of());
-                    
-                    List<LessonProgressResponse> lessonResponses = chapterLessons.stream()
+                    List<LessonProgressResponse> lessonResponses = chapter.getLessons().stream()
                             .map(lesson -> {
                                 CourseProgress progress = progressMap.get(lesson.getId());
                                 return LessonProgressResponse.builder()
                                         .lessonId(lesson.getId())
                                         .lessonTitle(lesson.getTitle())
                                         .status(progress != null ? progress.getStatus() : CourseProgressStatus.INCOMPLETE)
-                                        .completedAt(progress != null ? progress.getModified() : null)
+                                        .completedAt(progress != null && progress.getStatus() == CourseProgressStatus.COMPLETE ? progress.getModified() : null)
+                                        .lastPositionSeconds(progress != null ? progress.getLastPositionSeconds() : 0)
+                                        .watchTimeSeconds(progress != null ? progress.getWatchTimeSeconds() : 0L)
                                         .build();
                             })
                             .collect(Collectors.toList());
@@ -48,61 +48,36 @@ public class ProgressMapper {
                 })
                 .collect(Collectors.toList());
         
+        LessonOutline currentLesson = resolveCurrentLesson(enrollment, outline);
         return CourseProgressResponse.builder()
                 .courseId(courseId)
                 .courseTitle(enrollment.getCourse().getTitle())
                 .courseSlug(enrollment.getCourse().getSlug())
                 .overallProgress(enrollment.getProgress())
                 .completedLessons(completedLessons)
-                .totalLessons(totalLessons)
-                .currentLessonId(resolveCurrentLessonId(enrollment, chapters, lessonsByChapter))
-                .currentLessonTitle(resolveCurrentLessonTitle(enrollment, chapters, lessonsByChapter))
-                .currentLessonSlug(resolveCurrentLessonSlug(enrollment, chapters, lessonsByChapter))
+                .totalLessons(outline.getLessons().size())
+                .currentLessonId(currentLesson != null ? currentLesson.getId() : null)
+                .currentLessonTitle(currentLesson != null ? currentLesson.getTitle() : null)
+                .currentLessonSlug(currentLesson != null ? currentLesson.getSlug() : null)
                 .chapters(chapterResponses)
                 .build();
     }
 
-    private UUID resolveCurrentLessonId(Enrollment enrollment, List<Chapter> chapters, Map<UUID, List<Lesson>> lessonsByChapter) {
-        Lesson current = enrollment.getCurrentLesson();
-        if (current != null) return current.getId();
-        Lesson fallback = getFirstOrLastLesson(chapters, lessonsByChapter, enrollment);
-        return fallback != null ? fallback.getId() : null;
-    }
-
-    private String resolveCurrentLessonTitle(Enrollment enrollment, List<Chapter> chapters, Map<UUID, List<Lesson>> lessonsByChapter) {
-        Lesson current = enrollment.getCurrentLesson();
-        if (current != null) return current.getTitle();
-        Lesson fallback = getFirstOrLastLesson(chapters, lessonsByChapter, enrollment);
-        return fallback != null ? fallback.getTitle() : null;
-    }
-
-    private String resolveCurrentLessonSlug(Enrollment enrollment, List<Chapter> chapters, Map<UUID, List<Lesson>> lessonsByChapter) {
-        Lesson current = enrollment.getCurrentLesson();
-        if (current != null) return current.getSlug();
-        Lesson fallback = getFirstOrLastLesson(chapters, lessonsByChapter, enrollment);
-        return fallback != null ? fallback.getSlug() : null;
-    }
-
+    // Reads the current lesson off the outline, so only its id is taken from the enrollment.
     // If enrollment has no current lesson: return first lesson if progress is zero (start),
     // or last lesson if progress is 100% (completed). Otherwise null.
-    private Lesson getFirstOrLastLesson(List<Chapter> chapters, Map<UUID, List<Lesson>> lessonsByChapter, Enrollment enrollment) {
-        if (chapters == null || chapters.isEmpty()) return null;
+    private LessonOutline resolveCurrentLesson(Enrollment enrollment, CourseOutline outline) {
+        Lesson current = enrollment.getCurrentLesson();
+        if (current != null) {
+            return outline.findLesson(current.getId()).orElse(null);
+        }
+        List<LessonOutline> lessons = outline.getLessons();
+        if (lessons.isEmpty()) return null;
         boolean isAtStart = enrollment.getProgress() == null || enrollment.getProgress().signum() == 0;
         boolean isCompleted = enrollment.getProgress() != null && enrollment.getProgress().compareTo(java.math.BigDecimal.valueOf(100)) >= 0;
 
-        if (isAtStart) {
-            for (Chapter chapter : chapters) {
-                List<Lesson> lessons = lessonsByChapter.getOrDefault(chapter.getId(), List.of());
-                if (!lessons.isEmpty()) return lessons.get(0);
-            }
-        }
-        if (isCompleted) {
-            for (int i = chapters.size() - 1; i >= 0; i--) {
-                Chapter chapter = chapters.get(i);
-                List<Lesson> lessons = lessonsByChapter.getOrDefault(chapter.getId(), List.of());
-                if (!lessons.isEmpty()) return lessons.get(lessons.size() - 1);
-            }
-        }
+        if (isAtStart) return lessons.get(0);
+        if (isCompleted) return lessons.get(lessons.size() - 1);
         return null;
     }
 }
@@ -0,0 +1,15 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.BatchDiscussion;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public final class BatchDiscussionSpecification {
+
+    public static Specification<BatchDiscussion> topLevelInBatch(UUID batchId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.equal(root.get("batch").get("id"), batchId),
+                criteriaBuilder.isNull(root.get("replyTo")));
+    }
+}
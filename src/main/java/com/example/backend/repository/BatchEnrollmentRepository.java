@@ -1,5 +1,6 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.response.enrollment.CurrentEnrollmentResponse;
 import com.example.backend.entity.Batch;
 import com.example.backend.entity.BatchEnrollment;
 import org.springframework.data.domain.Page;
@@ -24,4 +25,33 @@ public interface BatchEnrollmentRepository extends JpaRepository<BatchEnrollment
     
     @Query("SELECT e.batch FROM BatchEnrollment e WHERE e.user.id = :userId")
     List<Batch> findBatchesByUserId(@Param("userId") UUID userId);
+
+    @Query("SELECT e.batch.id FROM BatchEnrollment e WHERE e.user.id = :userId")
+    List<UUID> findBatchIdsByUserId(@Param("userId") UUID userId);
+
+    /**
+     * A student's batch enrollments, newest first: paid batch transactions plus free enrollments
+     * that have no paid transaction for the same batch. Sorted and paged in Postgres.
+     */
+    @Query(value = "SELECT u.batch_title AS \"courseTitle\", u.price AS \"price\", u.enrollment_date AS \"enrollmentDate\" " +
+            "FROM ( " +
+            "    SELECT b.title AS batch_title, t.amount AS price, COALESCE(t.paid_at, t.created_at) AS enrollment_date, t.id AS row_id " +
+            "    FROM transactions t JOIN batch b ON b.id = t.batch_id " +
+            "    WHERE t.student_id = :studentId AND t.status = 'PAID' " +
+            "    UNION ALL " +
+            "    SELECT b.title, 0, CAST(be.enrolled_at AS timestamptz), be.id " +
+            "    FROM batch_enrollment be JOIN batch b ON b.id = be.batch_id " +
+            "    WHERE be.user_id = :studentId " +
+            "      AND NOT EXISTS (SELECT 1 FROM transactions t " +
+            "                      WHERE t.student_id = :studentId AND t.batch_id = be.batch_id AND t.status = 'PAID') " +
+            ") u " +
+            "ORDER BY u.enrollment_date DESC, u.row_id DESC",
+            countQuery = "SELECT (SELECT COUNT(*) FROM transactions t " +
+                    "        WHERE t.student_id = :studentId AND t.status = 'PAID' AND t.batch_id IS NOT NULL) " +
+                    "     + (SELECT COUNT(*) FROM batch_enrollment be " +
+                    "        WHERE be.user_id = :studentId " +
+                    "          AND NOT EXISTS (SELECT 1 FROM transactions t " +
+                    "                          WHERE t.student_id = :studentId AND t.batch_id = be.batch_id AND t.status = 'PAID'))",
+            nativeQuery = true)
+    Page<CurrentEnrollmentResponse> findCurrentBatchEnrollments(@Param("studentId") UUID studentId, Pageable pageable);
 }
@@ -11,6 +11,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import com.example.backend.constant.BatchStatus;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.Optional;
 
@@ -20,6 +21,18 @@ public interface BatchRepository extends JpaRepository<Batch, UUID>, JpaSpecific
     Optional<Batch> findBySlug(String slug);
     boolean existsBySlug(String slug);
 
+    /**
+     * Initializes instructors, their users and roles on a page of already-loaded batches in one query.
+     */
+    @Query("SELECT DISTINCT b FROM Batch b LEFT JOIN FETCH b.instructors bi LEFT JOIN FETCH bi.instructor u LEFT JOIN FETCH u.roles WHERE b.id IN :batchIds")
+    List<Batch> fetchInstructorsByIdIn(@Param("batchIds") Collection<UUID> batchIds);
+
+    @Query("SELECT b.id FROM Batch b WHERE b.slug = :slug")
+    Optional<UUID> findIdBySlug(@Param("slug") String slug);
+
+    @Query("SELECT b.slug FROM Batch b WHERE b.slug = :baseSlug OR b.slug LIKE :pattern ESCAPE '!'")
+    List<String> findSlugsByBase(@Param("baseSlug") String baseSlug, @Param("pattern") String pattern);
+
     @Query("SELECT b FROM Batch b JOIN b.instructors bi WHERE bi.instructor.id = :instructorId AND (:status IS NULL OR b.status = :status)")
     Page<Batch> findBatchesByInstructorAndStatus(UUID instructorId, BatchStatus status, Pageable pageable);
 
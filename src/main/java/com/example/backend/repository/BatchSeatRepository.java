@@ -0,0 +1,102 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.BatchSeat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface BatchSeatRepository extends JpaRepository<BatchSeat, UUID> {
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO batch_seats (batch_id, seat_no) " +
+            "SELECT :batchId, g FROM generate_series(1, :capacity) AS g " +
+            "ON CONFLICT (batch_id, seat_no) DO NOTHING", nativeQuery = true)
+    int addSeats(@Param("batchId") UUID batchId, @Param("capacity") int capacity);
+
+    /**
+     * Drops unoccupied seats above the capacity. Occupied ones are kept for their holders but are
+     * never claimed again, since {@link #claimSeat} only considers seats within the capacity.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM batch_seats WHERE batch_id = :batchId AND seat_no > :capacity " +
+            "AND (status = 'AVAILABLE' OR (status = 'HELD' AND held_until < NOW()))", nativeQuery = true)
+    int removeFreeSeatsAbove(@Param("batchId") UUID batchId, @Param("capacity") int capacity);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM batch_seats WHERE batch_id = :batchId", nativeQuery = true)
+    int deleteAllByBatchId(@Param("batchId") UUID batchId);
+
+    /**
+     * Moves the seat the user already has to the given status. A taken seat stays taken.
+     * Returns 0 when the user has no seat in the batch.
+     */
+    @Modifying
+    @Query(value = "UPDATE batch_seats SET " +
+            "status = CASE WHEN status = 'TAKEN' THEN 'TAKEN' ELSE :status END, " +
+            "held_until = CASE WHEN status = 'TAKEN' OR :status = 'TAKEN' THEN NULL ELSE CAST(:heldUntil AS timestamptz) END, " +
+            "updated_at = NOW() " +
+            "WHERE batch_id = :batchId AND user_id = :userId", nativeQuery = true)
+    int updateOwnSeat(@Param("batchId") UUID batchId, @Param("userId") UUID userId,
+                      @Param("status") String status, @Param("heldUntil") OffsetDateTime heldUntil);
+
+    /**
+     * Claims the lowest free seat (or one whose hold has lapsed) for the user. Seats locked by
+     * concurrent claims are skipped rather than waited on, so a burst of enrollments spreads over
+     * different rows. Returns 0 when the batch is full.
+     */
+    @Modifying
+    @Query(value = "UPDATE batch_seats SET user_id = :userId, status = :status, " +
+            "held_until = CAST(:heldUntil AS timestamptz), updated_at = NOW() " +
+            "WHERE id = (" +
+            "    SELECT s.id FROM batch_seats s " +
+            "    WHERE s.batch_id = :batchId AND s.status <> 'TAKEN' " +
+            "      AND (s.status = 'AVAILABLE' OR s.held_until < NOW()) " +
+            "      AND s.seat_no <= (SELECT b.max_capacity FROM batch b WHERE b.id = :batchId) " +
+            "    ORDER BY s.seat_no LIMIT 1 FOR UPDATE SKIP LOCKED" +
+            ")", nativeQuery = true)
+    int claimSeat(@Param("batchId") UUID batchId, @Param("userId") UUID userId,
+                  @Param("status") String status, @Param("heldUntil") OffsetDateTime heldUntil);
+
+    @Modifying
+    @Query(value = "UPDATE batch_seats SET status = 'AVAILABLE', user_id = NULL, held_until = NULL, updated_at = NOW() " +
+            "WHERE batch_id = :batchId AND user_id = :userId AND status = 'HELD'", nativeQuery = true)
+    int releaseHold(@Param("batchId") UUID batchId, @Param("userId") UUID userId);
+
+    /**
+     * Frees every lapsed hold and returns the batches that got seats back.
+     */
+    @Query(value = "WITH expired AS (" +
+            "    UPDATE batch_seats SET status = 'AVAILABLE', user_id = NULL, held_until = NULL, updated_at = NOW() " +
+            "    WHERE status = 'HELD' AND held_until < NOW() " +
+            "    RETURNING batch_id" +
+            ") SELECT DISTINCT batch_id FROM expired", nativeQuery = true)
+    List<UUID> releaseExpiredHolds();
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM batch_seats " +
+            "WHERE batch_id = :batchId AND user_id = :userId AND status = 'TAKEN')", nativeQuery = true)
+    boolean hasTakenSeat(@Param("batchId") UUID batchId, @Param("userId") UUID userId);
+
+    /**
+     * Batches with someone on the waitlist and a claimable seat, e.g. one freed when its holder was deleted.
+     */
+    @Query(value = "SELECT DISTINCT w.batch_id FROM batch_waitlist w " +
+            "WHERE EXISTS (" +
+            "    SELECT 1 FROM batch_seats s JOIN batch b ON b.id = s.batch_id " +
+            "    WHERE s.batch_id = w.batch_id AND s.status <> 'TAKEN' " +
+            "      AND (s.status = 'AVAILABLE' OR s.held_until < NOW()) AND s.seat_no <= b.max_capacity" +
+            ")", nativeQuery = true)
+    List<UUID> findWaitlistedBatchesWithFreeSeats();
+
+    @Query(value = "SELECT COUNT(*) FROM batch_seats s " +
+            "WHERE s.batch_id = :batchId AND s.status <> 'TAKEN' " +
+            "  AND (s.status = 'AVAILABLE' OR s.held_until < NOW()) " +
+            "  AND s.seat_no <= (SELECT b.max_capacity FROM batch b WHERE b.id = :batchId)", nativeQuery = true)
+    long countClaimable(@Param("batchId") UUID batchId);
+}
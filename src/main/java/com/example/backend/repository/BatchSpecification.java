@@ -5,6 +5,7 @@ import com.example.backend.constant.EntityType;
 import com.example.backend.entity.Batch;
 import com.example.backend.entity.Label;
 import com.example.backend.entity.Tag;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
@@ -19,12 +20,24 @@ public final class BatchSpecification {
                 criteriaBuilder.equal(root.get("status"), BatchStatus.PUBLISHED);
     }
 
-    public static Specification<Batch> titleContains(String searchTerm) {
+    /**
+     * Full-text match against the generated search_vector column. Results are ordered by rank
+     * unless the caller supplies an explicit sort, which Spring Data applies afterwards.
+     */
+    public static Specification<Batch> matchesSearch(String searchTerm) {
         return (root, query, criteriaBuilder) -> {
             if (!StringUtils.hasText(searchTerm)) {
                 return criteriaBuilder.conjunction();
             }
-            return criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), "%" + searchTerm.toLowerCase() + "%");
+            Expression<String> searchVector = root.get("searchVector");
+            Expression<String> term = criteriaBuilder.literal(searchTerm.trim());
+
+            if (query != null && !Long.class.equals(query.getResultType())) {
+                query.orderBy(
+                        criteriaBuilder.desc(criteriaBuilder.function("fts_rank", Float.class, searchVector, term)),
+                        criteriaBuilder.asc(root.get("id")));
+            }
+            return criteriaBuilder.isTrue(criteriaBuilder.function("fts_matches", Boolean.class, searchVector, term));
         };
     }
 
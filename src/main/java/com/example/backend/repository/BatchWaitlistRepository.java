@@ -0,0 +1,36 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.BatchWaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BatchWaitlistRepository extends JpaRepository<BatchWaitlistEntry, UUID> {
+
+    boolean existsByBatchId(UUID batchId);
+
+    Optional<BatchWaitlistEntry> findByBatchIdAndUserId(UUID batchId, UUID userId);
+
+    @Modifying
+    @Query("DELETE FROM BatchWaitlistEntry w WHERE w.batch.id = :batchId AND w.user.id = :userId")
+    int deleteByBatchIdAndUserId(@Param("batchId") UUID batchId, @Param("userId") UUID userId);
+
+    /**
+     * The next students in line, locked so that concurrent promotions offer each of them one seat only.
+     */
+    @Query(value = "SELECT * FROM batch_waitlist WHERE batch_id = :batchId " +
+            "ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<BatchWaitlistEntry> lockNext(@Param("batchId") UUID batchId, @Param("limit") int limit);
+
+    @Query("SELECT COUNT(w) FROM BatchWaitlistEntry w WHERE w.batch.id = :batchId " +
+            "AND (w.createdAt < :createdAt OR (w.createdAt = :createdAt AND w.id <= :id))")
+    long countAhead(@Param("batchId") UUID batchId, @Param("createdAt") OffsetDateTime createdAt, @Param("id") UUID id);
+}
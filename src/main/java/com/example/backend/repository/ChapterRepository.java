@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ChapterRepository extends JpaRepository<Chapter, UUID> {
@@ -14,5 +15,14 @@ public interface ChapterRepository extends JpaRepository<Chapter, UUID> {
     
     List<Chapter> findByCourseIdOrderByCreation(UUID courseId);
 
+    @Query("SELECT c FROM Chapter c LEFT JOIN FETCH c.lessons WHERE c.course.id = :courseId")
+    List<Chapter> findByCourseIdWithLessons(@Param("courseId") UUID courseId);
+
     boolean existsBySlug(String slug);
+
+    @Query("SELECT c.id FROM Chapter c WHERE c.slug = :slug")
+    Optional<UUID> findIdBySlug(@Param("slug") String slug);
+
+    @Query("SELECT c.slug FROM Chapter c WHERE c.slug = :baseSlug OR c.slug LIKE :pattern ESCAPE '!'")
+    List<String> findSlugsByBase(@Param("baseSlug") String baseSlug, @Param("pattern") String pattern);
 }
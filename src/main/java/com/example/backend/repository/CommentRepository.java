@@ -1,13 +1,16 @@
 package com.example.backend.repository;
 
 import com.example.backend.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,12 +18,33 @@ import java.util.UUID;
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
 
     // Find all root comments for a lesson (comments without parent) that are not deleted
-    @Query("SELECT c FROM Comment c WHERE c.lesson.id = :lessonId AND c.parent IS NULL AND c.isDeleted = false ORDER BY c.creation DESC")
+    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.author WHERE c.lesson.id = :lessonId AND c.parent IS NULL AND c.isDeleted = false ORDER BY c.creation DESC, c.id DESC",
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.lesson.id = :lessonId AND c.parent IS NULL AND c.isDeleted = false")
     Page<Comment> findRootCommentsByLessonId(@Param("lessonId") UUID lessonId, Pageable pageable);
 
-    // Find all comments for a lesson including replies
-    @Query("SELECT c FROM Comment c WHERE c.lesson.id = :lessonId AND c.isDeleted = false ORDER BY c.creation DESC")
-    List<Comment> findAllCommentsByLessonId(@Param("lessonId") UUID lessonId);
+    // First replies of each thread in path order, one index range scan per root
+    @Query(value = "SELECT r.id FROM comments root CROSS JOIN LATERAL (" +
+            "    SELECT c.id FROM comments c " +
+            "    WHERE c.root_id = root.id AND c.is_deleted = false " +
+            "    ORDER BY c.path LIMIT :limit" +
+            ") r WHERE root.id IN (:rootIds)", nativeQuery = true)
+    List<UUID> findReplyPreviewIds(@Param("rootIds") Collection<UUID> rootIds, @Param("limit") int limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.id IN :ids")
+    List<Comment> findAllWithAuthorByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Replies below a comment after a path cursor, in path order
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.rootId = :rootId AND c.path LIKE :prefix AND c.path > :after AND c.isDeleted = false ORDER BY c.path")
+    List<Comment> findRepliesAfter(@Param("rootId") UUID rootId, @Param("prefix") String prefix, @Param("after") String after, Limit limit);
+
+    @Modifying
+    @Query(value = "UPDATE comments SET reply_count = GREATEST(reply_count + :delta, 0) WHERE id = :rootId", nativeQuery = true)
+    int adjustReplyCount(@Param("rootId") UUID rootId, @Param("delta") int delta);
+
+    // Find a page of comments for a lesson including replies, newest first
+    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.author WHERE c.lesson.id = :lessonId AND c.isDeleted = false ORDER BY c.creation DESC, c.id DESC",
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.lesson.id = :lessonId AND c.isDeleted = false")
+    Page<Comment> findPageByLessonId(@Param("lessonId") UUID lessonId, Pageable pageable);
 
     // Find replies for a specific comment
     @Query("SELECT c FROM Comment c WHERE c.parent.id = :parentId AND c.isDeleted = false ORDER BY c.creation ASC")
@@ -1,11 +1,13 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.response.comment.CommentVoteCounts;
 import com.example.backend.entity.CommentVote;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,9 +18,47 @@ public interface CommentVoteRepository extends JpaRepository<CommentVote, UUID>
     // Find user's vote for a specific comment
     Optional<CommentVote> findByCommentIdAndUserId(UUID commentId, UUID userId);
 
-    // Find all votes for comments in a lesson (for efficient loading)
-    @Query("SELECT cv FROM CommentVote cv WHERE cv.comment.lesson.id = :lessonId")
-    List<CommentVote> findAllVotesByLessonId(@Param("lessonId") UUID lessonId);
+    // Find user's votes for a page of comments
+    @Query("SELECT cv FROM CommentVote cv WHERE cv.user.id = :userId AND cv.comment.id IN :commentIds")
+    List<CommentVote> findByUserIdAndCommentIds(@Param("userId") UUID userId, @Param("commentIds") Collection<UUID> commentIds);
+
+    @Query("SELECT cv.voteType FROM CommentVote cv WHERE cv.comment.id = :commentId AND cv.user.id = :userId")
+    Optional<Boolean> findVoteType(@Param("commentId") UUID commentId, @Param("userId") UUID userId);
+
+    /**
+     * Casts or switches the user's vote and moves the comment's counters in the same statement.
+     * Repeating the vote the user already has (e.g. a double click racing itself) changes nothing.
+     */
+    @Query(value = "WITH cast_vote AS (" +
+            "    INSERT INTO comment_votes (comment_id, user_id, vote_type, creation) " +
+            "    VALUES (:commentId, :userId, :upvote, NOW()) " +
+            "    ON CONFLICT (comment_id, user_id) DO UPDATE SET vote_type = EXCLUDED.vote_type " +
+            "    WHERE comment_votes.vote_type IS DISTINCT FROM EXCLUDED.vote_type " +
+            "    RETURNING vote_type, (xmax = 0) AS inserted" +
+            "), counted AS (" +
+            "    UPDATE comments c SET " +
+            "        upvotes = GREATEST(c.upvotes + (SELECT COUNT(*) FILTER (WHERE vote_type) - COUNT(*) FILTER (WHERE NOT vote_type AND NOT inserted) FROM cast_vote), 0), " +
+            "        downvotes = GREATEST(c.downvotes + (SELECT COUNT(*) FILTER (WHERE NOT vote_type) - COUNT(*) FILTER (WHERE vote_type AND NOT inserted) FROM cast_vote), 0) " +
+            "    WHERE c.id = :commentId " +
+            "    RETURNING c.upvotes, c.downvotes" +
+            ") SELECT upvotes, downvotes FROM counted", nativeQuery = true)
+    CommentVoteCounts castVote(@Param("commentId") UUID commentId, @Param("userId") UUID userId, @Param("upvote") boolean upvote);
+
+    /**
+     * Removes the user's vote of the given type and moves the comment's counters in the same statement.
+     * Only the caller that actually deleted the row changes the counters.
+     */
+    @Query(value = "WITH removed AS (" +
+            "    DELETE FROM comment_votes WHERE comment_id = :commentId AND user_id = :userId AND vote_type = :upvote " +
+            "    RETURNING vote_type" +
+            "), counted AS (" +
+            "    UPDATE comments c SET " +
+            "        upvotes = GREATEST(c.upvotes - (SELECT COUNT(*) FILTER (WHERE vote_type) FROM removed), 0), " +
+            "        downvotes = GREATEST(c.downvotes - (SELECT COUNT(*) FILTER (WHERE NOT vote_type) FROM removed), 0) " +
+            "    WHERE c.id = :commentId " +
+            "    RETURNING c.upvotes, c.downvotes" +
+            ") SELECT upvotes, downvotes FROM counted", nativeQuery = true)
+    CommentVoteCounts removeVote(@Param("commentId") UUID commentId, @Param("userId") UUID userId, @Param("upvote") boolean upvote);
 
     // Find all votes for a specific comment
     List<CommentVote> findByCommentId(UUID commentId);
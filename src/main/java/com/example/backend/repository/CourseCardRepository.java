@@ -0,0 +1,55 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.response.catalog.FacetCount;
+import com.example.backend.entity.CourseCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface CourseCardRepository extends JpaRepository<CourseCard, UUID>, JpaSpecificationExecutor<CourseCard> {
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query(value = "CALL refresh_course_card(:courseId)", nativeQuery = true)
+    void refresh(@Param("courseId") UUID courseId);
+
+    /**
+     * Copies the enrollment counter and rating of every course whose card shows different values onto
+     * the card, without rebuilding it, and returns the slugs of the cards it changed.
+     */
+    @Query(value = "WITH updated AS (" +
+            "    UPDATE course_cards cc SET enrollments = COALESCE(c.enrollments, 0), rating = c.rating, refreshed_at = NOW()" +
+            "    FROM courses c" +
+            "    WHERE c.id = cc.course_id" +
+            "      AND (cc.enrollments IS DISTINCT FROM COALESCE(c.enrollments, 0) OR cc.rating IS DISTINCT FROM c.rating)" +
+            "    RETURNING cc.slug" +
+            ") SELECT slug FROM updated", nativeQuery = true)
+    List<String> syncCounters();
+
+    /**
+     * Per-tag and per-label counts of published courses in one statement. Each facet ignores its own
+     * filter (tags are OR-ed within the facet), so the counts show what selecting another value would add.
+     * Pass an empty search and empty arrays for "no filter".
+     */
+    @Query(value = "SELECT 'TAG' AS facet, f.name AS name, COUNT(*) AS count " +
+            "FROM course_cards cc CROSS JOIN LATERAL unnest(cc.tag_names) AS f(name) " +
+            "WHERE (:search = '' OR fts_matches(cc.search_vector, :search)) " +
+            "  AND (cardinality(CAST(:labels AS text[])) = 0 OR text_array_overlaps(cc.label_names, CAST(:labels AS text[]))) " +
+            "GROUP BY f.name " +
+            "UNION ALL " +
+            "SELECT 'LABEL' AS facet, f.name AS name, COUNT(*) AS count " +
+            "FROM course_cards cc CROSS JOIN LATERAL unnest(cc.label_names) AS f(name) " +
+            "WHERE (:search = '' OR fts_matches(cc.search_vector, :search)) " +
+            "  AND (cardinality(CAST(:tags AS text[])) = 0 OR text_array_overlaps(cc.tag_names, CAST(:tags AS text[]))) " +
+            "GROUP BY f.name " +
+            "ORDER BY count DESC, name ASC", nativeQuery = true)
+    List<FacetCount> countFacets(@Param("search") String search, @Param("tags") String[] tags, @Param("labels") String[] labels);
+}
@@ -0,0 +1,49 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.CourseCard;
+import jakarta.persistence.criteria.Expression;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+public final class CourseCardSpecification {
+
+    /**
+     * Same matching and rank ordering as {@link CourseSpecification#matchesSearch(String)},
+     * against the search_vector copied onto the card.
+     */
+    public static Specification<CourseCard> matchesSearch(String search) {
+        return (root, query, criteriaBuilder) -> {
+            if (!StringUtils.hasText(search)) {
+                return criteriaBuilder.conjunction();
+            }
+            Expression<String> searchVector = root.get("searchVector");
+            Expression<String> term = criteriaBuilder.literal(search.trim());
+
+            if (query != null && !Long.class.equals(query.getResultType())) {
+                query.orderBy(
+                        criteriaBuilder.desc(criteriaBuilder.function("fts_rank", Float.class, searchVector, term)),
+                        criteriaBuilder.asc(root.get("id")));
+            }
+            return criteriaBuilder.isTrue(criteriaBuilder.function("fts_matches", Boolean.class, searchVector, term));
+        };
+    }
+
+    public static Specification<CourseCard> hasTags(List<String> tags) {
+        return hasAnyOf("tagNames", tags);
+    }
+
+    public static Specification<CourseCard> hasLabels(List<String> labels) {
+        return hasAnyOf("labelNames", labels);
+    }
+
+    private static Specification<CourseCard> hasAnyOf(String attribute, List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return null;
+        }
+        String[] values = names.toArray(String[]::new);
+        return (root, query, criteriaBuilder) -> criteriaBuilder.isTrue(criteriaBuilder.function(
+                "text_array_overlaps", Boolean.class, root.get(attribute), criteriaBuilder.literal(values)));
+    }
+}
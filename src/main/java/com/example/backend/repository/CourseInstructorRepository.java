@@ -6,10 +6,14 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface CourseInstructorRepository extends JpaRepository<CourseInstructor, UUID> {
     @Modifying
     @Query("DELETE FROM CourseInstructor ci WHERE ci.course.id = :courseId AND ci.user.id IN :instructorIds")
     void deleteByCourseIdAndUserIdIn(@Param("courseId") UUID courseId, @Param("instructorIds") Iterable<UUID> instructorIds);
+
+    @Query("SELECT ci.course.id FROM CourseInstructor ci WHERE ci.user.id = :userId")
+    List<UUID> findCourseIdsByUserId(@Param("userId") UUID userId);
 }
@@ -2,6 +2,7 @@ package com.example.backend.repository;
 
 import com.example.backend.entity.CourseProgress;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,4 +23,18 @@ public interface CourseProgressRepository extends JpaRepository<CourseProgress,
     
     @Query("SELECT COUNT(l) FROM Lesson l WHERE l.course.id = :courseId")
     long countTotalLessons(@Param("courseId") UUID courseId);
+
+    @Query("SELECT cp.lesson.id FROM CourseProgress cp WHERE cp.member.id = :memberId AND cp.course.id = :courseId AND cp.status = 'COMPLETE'")
+    List<UUID> findCompletedLessonIds(@Param("memberId") UUID memberId, @Param("courseId") UUID courseId);
+
+    /**
+     * Marks a lesson complete in one statement. Returns 1 when this call completed it and 0 when it already was.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO course_progress (member_id, lesson_id, chapter_id, course_id, status, creation, modified) " +
+            "VALUES (:memberId, :lessonId, :chapterId, :courseId, 'COMPLETE', NOW(), NOW()) " +
+            "ON CONFLICT (member_id, lesson_id) DO UPDATE SET status = 'COMPLETE', modified = NOW() " +
+            "WHERE course_progress.status IS DISTINCT FROM 'COMPLETE'", nativeQuery = true)
+    int markComplete(@Param("memberId") UUID memberId, @Param("lessonId") UUID lessonId,
+                     @Param("chapterId") UUID chapterId, @Param("courseId") UUID courseId);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.CourseRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface CourseRatingStatsRepository extends JpaRepository<CourseRatingStats, UUID> {
+}
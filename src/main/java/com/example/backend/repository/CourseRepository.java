@@ -6,11 +6,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import com.example.backend.dto.response.statistics.PerformanceReportItem;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,8 +27,51 @@ public interface CourseRepository extends JpaRepository<Course, UUID>, JpaSpecif
     @Query("SELECT c FROM Course c WHERE c.slug = :slug AND c.status = 'PUBLISHED'")
     Optional<Course> findBySlugAndStatusPublished(@Param("slug") String slug);
 
+    /**
+     * Course detail fetch plan, part one: the course with its instructors, their users and roles.
+     * Kept apart from the outline so the two collections don't multiply into one cartesian result.
+     */
+    @Query("SELECT c FROM Course c LEFT JOIN FETCH c.instructors ci LEFT JOIN FETCH ci.user u LEFT JOIN FETCH u.roles WHERE c.slug = :slug")
+    Optional<Course> findWithInstructorsBySlug(@Param("slug") String slug);
+
+    @Query("SELECT c FROM Course c LEFT JOIN FETCH c.instructors ci LEFT JOIN FETCH ci.user u LEFT JOIN FETCH u.roles WHERE c.id = :courseId")
+    Optional<Course> findWithInstructorsById(@Param("courseId") UUID courseId);
+
+    /**
+     * Course detail fetch plan, part two: initializes chapters, their lessons and each lesson's quiz
+     * on the already-loaded course in a single query.
+     */
+    @Query("SELECT c FROM Course c LEFT JOIN FETCH c.chapters ch LEFT JOIN FETCH ch.lessons l LEFT JOIN FETCH l.quiz WHERE c.id = :courseId")
+    Optional<Course> fetchOutlineById(@Param("courseId") UUID courseId);
+
     boolean existsBySlug(String slug);
 
+    /**
+     * Adjusts the enrollment counter in place, so concurrent enrollments serialize on the row lock
+     * instead of overwriting each other's read-modify-write. Never goes below zero.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE courses SET enrollments = GREATEST(COALESCE(enrollments, 0) + :delta, 0) WHERE id = :courseId", nativeQuery = true)
+    int adjustEnrollments(@Param("courseId") UUID courseId, @Param("delta") int delta);
+
+    /**
+     * Resets every counter that has drifted from the enrollments table and returns the ids of the courses it changed.
+     */
+    @Query(value = "WITH counted AS (" +
+            "    SELECT c.id, COUNT(e.id) AS total FROM courses c LEFT JOIN enrollments e ON e.course_id = c.id GROUP BY c.id" +
+            "), updated AS (" +
+            "    UPDATE courses c SET enrollments = counted.total FROM counted" +
+            "    WHERE c.id = counted.id AND c.enrollments IS DISTINCT FROM counted.total" +
+            "    RETURNING c.id" +
+            ") SELECT id FROM updated", nativeQuery = true)
+    List<UUID> reconcileEnrollments();
+
+    @Query("SELECT c.id FROM Course c WHERE c.slug = :slug")
+    Optional<UUID> findIdBySlug(@Param("slug") String slug);
+
+    @Query("SELECT c.slug FROM Course c WHERE c.slug = :baseSlug OR c.slug LIKE :pattern ESCAPE '!'")
+    List<String> findSlugsByBase(@Param("baseSlug") String baseSlug, @Param("pattern") String pattern);
+
     long countByInstructors_User_IdAndStatus(UUID instructorId, CourseStatus status);
 
     @Query(value = "SELECT new com.example.backend.dto.response.statistics.PerformanceReportItem(" +
@@ -4,6 +4,7 @@ import com.example.backend.constant.EntityType;
 import com.example.backend.entity.Course;
 import com.example.backend.entity.Label;
 import com.example.backend.entity.Tag;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
@@ -17,12 +18,24 @@ public final class CourseSpecification {
         return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("status"), "PUBLISHED");
     }
 
-    public static Specification<Course> titleContains(String search) {
+    /**
+     * Full-text match against the generated search_vector column. Results are ordered by rank
+     * unless the caller supplies an explicit sort, which Spring Data applies afterwards.
+     */
+    public static Specification<Course> matchesSearch(String search) {
         return (root, query, criteriaBuilder) -> {
             if (!StringUtils.hasText(search)) {
                 return criteriaBuilder.conjunction();
             }
-            return criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), "%" + search.toLowerCase() + "%");
+            Expression<String> searchVector = root.get("searchVector");
+            Expression<String> term = criteriaBuilder.literal(search.trim());
+
+            if (query != null && !Long.class.equals(query.getResultType())) {
+                query.orderBy(
+                        criteriaBuilder.desc(criteriaBuilder.function("fts_rank", Float.class, searchVector, term)),
+                        criteriaBuilder.asc(root.get("id")));
+            }
+            return criteriaBuilder.isTrue(criteriaBuilder.function("fts_matches", Boolean.class, searchVector, term));
         };
     }
 
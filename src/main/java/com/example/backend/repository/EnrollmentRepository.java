@@ -1,12 +1,15 @@
 package com.example.backend.repository;
 
+import com.example.backend.dto.response.enrollment.CurrentEnrollmentResponse;
 import com.example.backend.entity.Enrollment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,9 +21,50 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, UUID> {
 
     List<Enrollment> findByMemberId(UUID memberId);
 
+    @Query("SELECT e.course.id FROM Enrollment e WHERE e.member.id = :memberId")
+    List<UUID> findCourseIdsByMemberId(@Param("memberId") UUID memberId);
+
+    /**
+     * Locks the enrollment row so concurrent completions of one enrollment, on any node, write its progress one after another.
+     */
+    @Query(value = "SELECT id FROM enrollments WHERE member_id = :memberId AND course_id = :courseId FOR UPDATE", nativeQuery = true)
+    Optional<UUID> lockByMemberIdAndCourseId(@Param("memberId") UUID memberId, @Param("courseId") UUID courseId);
+
+    @Modifying
+    @Query(value = "UPDATE enrollments SET progress = :progress, current_lesson = CAST(:currentLessonId AS uuid), modified = NOW() " +
+            "WHERE member_id = :memberId AND course_id = :courseId", nativeQuery = true)
+    int updateProgress(@Param("memberId") UUID memberId, @Param("courseId") UUID courseId,
+                       @Param("progress") BigDecimal progress, @Param("currentLessonId") UUID currentLessonId);
+
     @Query("SELECT e FROM Enrollment e JOIN e.course c JOIN c.instructors ci WHERE ci.user.id = :instructorId AND c.id = :courseId")
     List<Enrollment> findByCourseIdAndInstructorId(@Param("courseId") UUID courseId, @Param("instructorId") UUID instructorId);
 
     @Query("SELECT e FROM Enrollment e WHERE e.member.id = :memberId")
     Page<Enrollment> findByMemberId(@Param("memberId") UUID memberId, Pageable pageable);
+
+    /**
+     * A student's course enrollments, newest first: paid course transactions plus free enrollments
+     * that have no paid transaction for the same course. Sorted and paged in Postgres.
+     */
+    @Query(value = "SELECT u.course_title AS \"courseTitle\", u.price AS \"price\", u.enrollment_date AS \"enrollmentDate\" " +
+            "FROM ( " +
+            "    SELECT c.title AS course_title, t.amount AS price, COALESCE(t.paid_at, t.created_at) AS enrollment_date, t.id AS row_id " +
+            "    FROM transactions t JOIN courses c ON c.id = t.course_id " +
+            "    WHERE t.student_id = :studentId AND t.status = 'PAID' " +
+            "    UNION ALL " +
+            "    SELECT c.title, 0, e.creation, e.id " +
+            "    FROM enrollments e JOIN courses c ON c.id = e.course_id " +
+            "    WHERE e.member_id = :studentId " +
+            "      AND NOT EXISTS (SELECT 1 FROM transactions t " +
+            "                      WHERE t.student_id = :studentId AND t.course_id = e.course_id AND t.status = 'PAID') " +
+            ") u " +
+            "ORDER BY u.enrollment_date DESC, u.row_id DESC",
+            countQuery = "SELECT (SELECT COUNT(*) FROM transactions t " +
+                    "        WHERE t.student_id = :studentId AND t.status = 'PAID' AND t.course_id IS NOT NULL) " +
+                    "     + (SELECT COUNT(*) FROM enrollments e " +
+                    "        WHERE e.member_id = :studentId " +
+                    "          AND NOT EXISTS (SELECT 1 FROM transactions t " +
+                    "                          WHERE t.student_id = :studentId AND t.course_id = e.course_id AND t.status = 'PAID'))",
+            nativeQuery = true)
+    Page<CurrentEnrollmentResponse> findCurrentCourseEnrollments(@Param("studentId") UUID studentId, Pageable pageable);
 }
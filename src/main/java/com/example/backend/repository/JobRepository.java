@@ -1,14 +1,28 @@
 package com.example.backend.repository;
 
+import com.example.backend.constant.JobStatus;
 import com.example.backend.entity.Job;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.UUID;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, UUID> {
     Page<Job> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
-}
\ No newline at end of file
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.status = :status, j.updatedAt = :updatedAt WHERE j.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<UUID> ids,
+                           @Param("status") JobStatus status,
+                           @Param("updatedAt") OffsetDateTime updatedAt);
+}
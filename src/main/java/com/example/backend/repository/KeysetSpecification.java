@@ -0,0 +1,33 @@
+package com.example.backend.repository;
+
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public final class KeysetSpecification {
+
+    /**
+     * Rows strictly after (timestamp, id) in descending order. The redundant "<=" gives Postgres an
+     * index range start on (timestamp DESC, id DESC); the OR only filters ties on the timestamp.
+     */
+    public static <T, Y extends Comparable<? super Y>> Specification<T> before(String timestampAttribute, Y timestamp, UUID id) {
+        if (timestamp == null || id == null) {
+            return null;
+        }
+        return (root, query, criteriaBuilder) -> {
+            Path<Y> timestampPath = root.get(timestampAttribute);
+            Path<UUID> idPath = root.get("id");
+            return criteriaBuilder.and(
+                    criteriaBuilder.lessThanOrEqualTo(timestampPath, timestamp),
+                    criteriaBuilder.or(
+                            criteriaBuilder.lessThan(timestampPath, timestamp),
+                            criteriaBuilder.lessThan(idPath, id)));
+        };
+    }
+
+    public static Sort newestFirst(String timestampAttribute) {
+        return Sort.by(Sort.Direction.DESC, timestampAttribute).and(Sort.by(Sort.Direction.DESC, "id"));
+    }
+}
@@ -11,6 +11,22 @@ import java.util.UUID;
 
 public interface LessonRepository extends JpaRepository<Lesson, UUID> {
     boolean existsBySlug(String slug);
+
+    @Query("SELECT l.id FROM Lesson l WHERE l.slug = :slug")
+    Optional<UUID> findIdBySlug(@Param("slug") String slug);
+
+    @Query("SELECT l.slug FROM Lesson l WHERE l.slug = :baseSlug OR l.slug LIKE :pattern ESCAPE '!'")
+    List<String> findSlugsByBase(@Param("baseSlug") String baseSlug, @Param("pattern") String pattern);
+    @Query("SELECT l.course.id FROM Lesson l WHERE l.id = :lessonId")
+    Optional<UUID> findCourseIdById(@Param("lessonId") UUID lessonId);
+
+    /**
+     * Ids of the course's lessons in study order: chapters by position, then lessons by position.
+     */
+    @Query("SELECT l.id FROM Lesson l JOIN l.chapter ch WHERE l.course.id = :courseId " +
+           "ORDER BY ch.position ASC NULLS LAST, ch.id, l.position ASC NULLS LAST, l.id")
+    List<UUID> findIdsInStudyOrder(@Param("courseId") UUID courseId);
+
     Optional<Lesson> findBySlug(String slug);
     List<Lesson> findByChapterIdOrderByPosition(UUID chapterId);
     List<Lesson> findByCourseId(UUID courseId);
@@ -0,0 +1,23 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.response.statistics.LessonFunnelDataPoint;
+import com.example.backend.entity.LessonStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface LessonStatsRepository extends JpaRepository<LessonStats, UUID> {
+
+    List<LessonStats> findByCourseId(UUID courseId);
+
+    @Query(value = "SELECT TO_CHAR(d.day, 'YYYY-MM-DD') as date, SUM(d.started) as started, SUM(d.completed) as completed " +
+            "FROM lesson_stats_daily d " +
+            "WHERE d.course_id = :courseId AND d.day >= :startDate " +
+            "GROUP BY d.day " +
+            "ORDER BY d.day ASC", nativeQuery = true)
+    List<LessonFunnelDataPoint> getDailyTotalsByCourse(@Param("courseId") UUID courseId, @Param("startDate") LocalDate startDate);
+}
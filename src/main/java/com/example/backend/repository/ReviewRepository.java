@@ -4,6 +4,7 @@ import com.example.backend.entity.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,7 +13,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, UUID> {
+public interface ReviewRepository extends JpaRepository<Review, UUID>, JpaSpecificationExecutor<Review> {
 
     // Find all reviews for a course (for public display)
     Page<Review> findByCourseIdOrderByCreationDesc(UUID courseId, Pageable pageable);
@@ -35,8 +36,4 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
 
     // Count reviews for a course
     long countByCourseId(UUID courseId);
-
-    // Calculate average rating for a course
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.course.id = :courseId")
-    Double findAverageRatingByCourseId(@Param("courseId") UUID courseId);
 }
@@ -0,0 +1,11 @@
+package com.example.backend.repository;
+
+import com.example.backend.entity.Review;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class ReviewSpecification {
+
+    public static Specification<Review> forCourseSlug(String courseSlug) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("course").get("slug"), courseSlug);
+    }
+}
@@ -5,12 +5,15 @@ import com.example.backend.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface TagRepository extends JpaRepository<Tag, UUID> {
     List<Tag> findByEntityIdAndEntityType(UUID entityId, EntityType entityType);
 
+    List<Tag> findByEntityIdInAndEntityType(Collection<UUID> entityIds, EntityType entityType);
+
     void deleteByEntityIdAndEntityType(UUID entityId, EntityType entityType);
 
     @Modifying
@@ -0,0 +1,25 @@
+package com.example.backend.repository;
+
+import com.example.backend.constant.TransactionStatus;
+import com.example.backend.entity.Transaction;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public final class TransactionSpecification {
+
+    public static Specification<Transaction> hasStudent(UUID studentId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("student").get("id"), studentId);
+    }
+
+    public static Specification<Transaction> hasInstructor(UUID instructorId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("instructor").get("id"), instructorId);
+    }
+
+    public static Specification<Transaction> hasStatus(TransactionStatus status) {
+        if (status == null) {
+            return null;
+        }
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("status"), status);
+    }
+}
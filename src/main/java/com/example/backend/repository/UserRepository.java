@@ -13,6 +13,8 @@ import java.util.UUID;
 public interface UserRepository  extends JpaRepository<User, UUID> {
     boolean existsByEmail(String email);
     Optional<User> findByEmail(String email);
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<UUID> findIdByEmail(@Param("email") String email);
     @Query("SELECT u FROM User u JOIN u.roles r WHERE r.role = :role")
     List<User> findByRole(@Param("role") UserRoleEnum role);
 }
@@ -3,6 +3,7 @@ package com.example.backend.service;
 import com.example.backend.dto.model.BatchDiscussionDto;
 import com.example.backend.dto.request.discussion.CreateDiscussionRequest;
 import com.example.backend.dto.request.discussion.UpdateDiscussionRequest;
+import com.example.backend.dto.response.pagination.CursorPageResponse;
 import com.example.backend.entity.Batch;
 import com.example.backend.entity.BatchDiscussion;
 import com.example.backend.entity.User;
@@ -10,17 +11,22 @@ import com.example.backend.excecption.ForbiddenException;
 import com.example.backend.excecption.ResourceNotFoundException;
 import com.example.backend.mapper.BatchDiscussionMapper;
 import com.example.backend.repository.BatchDiscussionRepository;
+import com.example.backend.repository.BatchDiscussionSpecification;
 import com.example.backend.repository.BatchRepository;
+import com.example.backend.repository.KeysetSpecification;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -83,6 +89,29 @@ public class BatchDiscussionService {
         return discussions.map(discussion -> discussionMapper.toDto(discussion, new ArrayList<>(discussion.getDocuments())));
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<BatchDiscussionDto> scrollDiscussionsForBatch(UUID batchId, String cursor, int size) {
+        if (!batchRepository.existsById(batchId)) {
+            throw new ResourceNotFoundException("Batch not found with id: " + batchId);
+        }
+        Specification<BatchDiscussion> spec = BatchDiscussionSpecification.topLevelInBatch(batchId);
+        if (cursor != null) {
+            KeysetCursor.Position<LocalDateTime> after = KeysetCursor.decode(cursor, LocalDateTime::parse);
+            spec = spec.and(KeysetSpecification.before("createdAt", after.getTimestamp(), after.getId()));
+        }
+
+        int limit = CursorPageResponse.clampSize(size);
+        List<BatchDiscussion> discussions = discussionRepository.findBy(spec, query -> query
+                .sortBy(KeysetSpecification.newestFirst("createdAt"))
+                .limit(limit + 1)
+                .all());
+        return CursorPageResponse.of(discussions, limit,
+                page -> page.stream()
+                        .map(discussion -> discussionMapper.toDto(discussion, new ArrayList<>(discussion.getDocuments())))
+                        .toList(),
+                discussion -> KeysetCursor.encode(discussion.getCreatedAt(), discussion.getId()));
+    }
+
     @Transactional(readOnly = true)
     public Page<BatchDiscussionDto> getRepliesForDiscussion(UUID discussionId, Pageable pageable) {
         if (!discussionRepository.existsById(discussionId)) {
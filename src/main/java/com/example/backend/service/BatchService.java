@@ -2,6 +2,7 @@ package com.example.backend.service;
 
 import com.example.backend.constant.BatchStatus;
 import com.example.backend.constant.EntityType;
+import com.example.backend.constant.SlugScope;
 import com.example.backend.constant.UserRoleEnum;
 import com.example.backend.dto.model.BatchDto;
 import com.example.backend.dto.model.LabelDto;
@@ -9,6 +10,8 @@ import com.example.backend.dto.model.TagDto;
 import com.example.backend.dto.request.batch.CreateBatchRequest;
 import com.example.backend.dto.request.batch.UpdateBatchRequest;
 import com.example.backend.entity.*;
+import com.example.backend.event.CatalogChangedEvent;
+import com.example.backend.event.SlugChangedEvent;
 import com.example.backend.excecption.ForbiddenException;
 import com.example.backend.excecption.InvalidRequestDataException;
 import com.example.backend.excecption.ResourceNotFoundException;
@@ -18,20 +21,23 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import static com.example.backend.util.SlugConverter.toSlug;
 
 @Service
 @RequiredArgsConstructor
 public class BatchService {
     private final BatchRepository batchRepository;
+    private final SlugRegistryService slugRegistryService;
     private final UserRepository userRepository;
     private final BatchInstructorRepository batchInstructorRepository;
     private final BatchMapper batchMapper;
@@ -39,18 +45,21 @@ public class BatchService {
     private final LabelService labelService;
     private final TagRepository tagRepository;
     private final LabelRepository labelRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatReservationService seatReservationService;
 
 
     @Transactional
     public BatchDto createBatch(CreateBatchRequest request) {
         Batch batch = batchMapper.toEntity(request);
-        batch.setSlug(generateUniqueSlug(request.getTitle()));
+        batch.setSlug(slugRegistryService.allocate(SlugScope.BATCH, request.getTitle()));
 
         Batch savedBatch = batchRepository.save(batch);
         BatchInstructor batchInstructor = new BatchInstructor();
         batchInstructor.setInstructor(getCurrentUser());
         batchInstructor.setBatch(savedBatch);
         batchInstructorRepository.save(batchInstructor);
+        seatReservationService.syncCapacity(savedBatch);
         List<Tag> tags = tagService.upsertTags(request.getTags().stream().map(TagDto::getName).collect(Collectors.toList()), savedBatch.getId(), EntityType.BATCH);
         List<Label> labels = labelService.upsertLabels(request.getLabels().stream().map(LabelDto::getName).collect(Collectors.toList()), savedBatch.getId(), EntityType.BATCH);
 
@@ -64,15 +73,21 @@ public class BatchService {
         checkCourseOwnership(batch);
 
         if (request.getTitle() != null && !request.getTitle().equals(batch.getTitle())) {
-            batch.setSlug(generateUniqueSlug(request.getTitle()));
+            eventPublisher.publishEvent(new SlugChangedEvent(SlugScope.BATCH, batch.getSlug()));
+            batch.setSlug(slugRegistryService.allocate(SlugScope.BATCH, request.getTitle()));
         }
 
         List<Tag> tags = tagService.upsertTags(request.getTags().stream().map(TagDto::getName).collect(Collectors.toList()), batch.getId(), EntityType.BATCH);
         List<Label> labels = labelService.upsertLabels(request.getLabels().stream().map(LabelDto::getName).collect(Collectors.toList()), batch.getId(), EntityType.BATCH);
 
+        Integer previousCapacity = batch.getMaxCapacity();
         batchMapper.updateEntityFromRequest(request, batch);
 
         Batch updatedBatch = batchRepository.save(batch);
+        if (!Objects.equals(previousCapacity, updatedBatch.getMaxCapacity())) {
+            seatReservationService.syncCapacity(updatedBatch);
+        }
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.BATCH, id));
         return batchMapper.toDto(updatedBatch, tags , labels);
     }
 
@@ -87,12 +102,14 @@ public class BatchService {
         tagRepository.deleteByEntityIdAndEntityType(id, EntityType.BATCH);
         labelRepository.deleteByEntityIdAndEntityType(id, EntityType.BATCH);
         batchRepository.deleteById(id);
+        eventPublisher.publishEvent(new SlugChangedEvent(SlugScope.BATCH, batch.getSlug()));
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.BATCH, id));
     }
 
     @Transactional(readOnly = true)
     public Page<BatchDto> getPublishedBatches(Pageable pageable, List<String> tags, List<String> labels, String search) {
         Specification<Batch> spec = BatchSpecification.isPublished();
-        spec = spec.and(BatchSpecification.titleContains(search))
+        spec = spec.and(BatchSpecification.matchesSearch(search))
                 .and(BatchSpecification.hasLabels(labels))
                 .and(BatchSpecification.hasTags(tags));
         Page<Batch> batchPage = batchRepository.findAll(spec, pageable);
@@ -136,6 +153,7 @@ public class BatchService {
 
         batch.setStatus(BatchStatus.PUBLISHED);
         batchRepository.save(batch);
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.BATCH, batchId));
     }
 
     @Transactional
@@ -168,6 +186,7 @@ public class BatchService {
             newBatchInstructor.setInstructor(newInstructorUser);
             batchInstructorRepository.save(newBatchInstructor);
         }
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.BATCH, batchId));
     }
 
     @Transactional
@@ -186,18 +205,9 @@ public class BatchService {
 
         batch.getInstructors().remove(instructorToRemove);
         batchInstructorRepository.delete(instructorToRemove);
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.BATCH, batchId));
     }
 
-    private String generateUniqueSlug(String title) {
-        String baseSlug = toSlug(title);
-        String slug = baseSlug;
-        int counter = 1;
-        while (batchRepository.existsBySlug(slug)) {
-            slug = baseSlug + "-" + counter;
-            counter++;
-        }
-        return slug;
-    }
 
     private User getCurrentUser() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -222,10 +232,15 @@ public class BatchService {
     }
 
     private Page<BatchDto> getBatchDtos(Page<Batch> batchPage) {
-        return batchPage.map(batch -> {
-            List<Tag> tags = tagRepository.findByEntityIdAndEntityType(batch.getId(), EntityType.BATCH);
-            List<Label> labels = labelRepository.findByEntityIdAndEntityType(batch.getId(), EntityType.BATCH);
-            return batchMapper.toDto(batch, tags, labels);
-        });
+        List<UUID> batchIds = batchPage.map(Batch::getId).getContent();
+        if (!batchIds.isEmpty()) {
+            // One query for the page's instructors instead of one per batch when the mapper reads them
+            batchRepository.fetchInstructorsByIdIn(batchIds);
+        }
+        Map<UUID, List<Tag>> tagsByBatch = tagService.getTagsByEntityIds(batchIds, EntityType.BATCH);
+        Map<UUID, List<Label>> labelsByBatch = labelService.getLabelsByEntityIds(batchIds, EntityType.BATCH);
+        return batchPage.map(batch -> batchMapper.toDto(batch,
+                tagsByBatch.getOrDefault(batch.getId(), List.of()),
+                labelsByBatch.getOrDefault(batch.getId(), List.of())));
     }
 }
@@ -0,0 +1,247 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.response.enrollment.BulkEnrollmentResponse;
+import com.example.backend.dto.response.enrollment.BulkEnrollmentRowResult;
+import com.example.backend.entity.Batch;
+import com.example.backend.entity.Course;
+import com.example.backend.entity.User;
+import com.example.backend.excecption.ForbiddenException;
+import com.example.backend.excecption.InvalidRequestDataException;
+import com.example.backend.excecption.ResourceNotFoundException;
+import com.example.backend.repository.BatchRepository;
+import com.example.backend.repository.CourseRepository;
+import com.example.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Enrolls many students into a course or batch in one request. Emails are resolved to users
+ * in chunks, rows are inserted with JDBC batches and {@code ON CONFLICT DO NOTHING} so existing
+ * enrollments are reported rather than failing the import, and the course counter and catalog
+ * card are updated once per import. New access is picked up by {@link EnrollmentAccessService}'s
+ * database fallback, so no per-student events are published.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkEnrollmentService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_COURSE_ENROLLMENT =
+            "INSERT INTO enrollments (member_id, course_id, member_type, role, progress, current_lesson) " +
+            "VALUES (:userId, :targetId, 'STUDENT', 'MEMBER', 0, :currentLesson) " +
+            "ON CONFLICT (member_id, course_id) DO NOTHING";
+
+    private static final String INSERT_BATCH_ENROLLMENT =
+            "INSERT INTO batch_enrollment (user_id, batch_id, member_type, enrolled_at) " +
+            "VALUES (:userId, :targetId, 'STUDENT', NOW()) " +
+            "ON CONFLICT (user_id, batch_id) DO NOTHING";
+
+    private static final String FIRST_LESSON =
+            "SELECT l.id FROM lessons l JOIN chapters ch ON ch.id = l.chapter_id " +
+            "WHERE l.course_id = :courseId ORDER BY ch.position, l.position LIMIT 1";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CourseRepository courseRepository;
+    private final BatchRepository batchRepository;
+    private final UserRepository userRepository;
+    private final SeatReservationService seatReservationService;
+
+    @Value("${app.enrollment.bulk.max-rows:10000}")
+    private int maxRows;
+
+    @Transactional
+    public BulkEnrollmentResponse enrollInCourse(UUID courseId, List<String> emails) {
+        User instructor = getCurrentUser();
+        Course course = courseRepository.findWithInstructorsById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + courseId));
+        boolean isInstructor = course.getInstructors().stream()
+                .anyMatch(ci -> ci.getUser().getId().equals(instructor.getId()));
+        if (!isInstructor) {
+            throw new ForbiddenException("You are not authorized to enroll students in this course");
+        }
+
+        List<BulkEnrollmentRowResult> rows = resolveUsers(emails);
+        UUID firstLessonId = jdbcTemplate.queryForList(FIRST_LESSON, Map.of("courseId", courseId), UUID.class)
+                .stream().findFirst().orElse(null);
+        int enrolled = insert(rows, INSERT_COURSE_ENROLLMENT, courseId, firstLessonId);
+
+        if (enrolled > 0) {
+            courseRepository.adjustEnrollments(courseId, enrolled);
+        }
+        log.info("Bulk enrolled {} of {} row(s) into course {}", enrolled, rows.size(), courseId);
+        return toResponse(rows);
+    }
+
+    @Transactional
+    public BulkEnrollmentResponse enrollInBatch(UUID batchId, List<String> emails) {
+        User instructor = getCurrentUser();
+        Batch batch = batchRepository.findById(batchId)
+                .orElseThrow(() -> new ResourceNotFoundException("Batch not found with id: " + batchId));
+        boolean isInstructor = batch.getInstructors().stream()
+                .anyMatch(bi -> bi.getInstructor().getId().equals(instructor.getId()));
+        if (!isInstructor) {
+            throw new ForbiddenException("You are not authorized to enroll students in this batch");
+        }
+
+        List<BulkEnrollmentRowResult> rows = resolveUsers(emails);
+        if (batch.getMaxCapacity() != null) {
+            for (BulkEnrollmentRowResult row : rows) {
+                if (row.getStatus() == null && !seatReservationService.take(batch, row.getUserId())) {
+                    row.setStatus(BulkEnrollmentRowResult.Status.BATCH_FULL);
+                }
+            }
+        }
+        int enrolled = insert(rows, INSERT_BATCH_ENROLLMENT, batchId, null);
+
+        log.info("Bulk enrolled {} of {} row(s) into batch {}", enrolled, rows.size(), batchId);
+        return toResponse(rows);
+    }
+
+    /**
+     * Reads emails from the first column of a CSV upload, one per line. A leading "email" header
+     * and blank lines are skipped.
+     */
+    public List<String> readEmails(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new InvalidRequestDataException("CSV file is required");
+        }
+        List<String> emails = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String email = line.split(",", 2)[0].replace("\"", "").replace("\uFEFF", "").trim();
+                if (email.isEmpty() || (emails.isEmpty() && email.equalsIgnoreCase("email"))) {
+                    continue;
+                }
+                if (emails.size() >= maxRows) {
+                    throw new InvalidRequestDataException("A bulk import is limited to " + maxRows + " rows");
+                }
+                emails.add(email);
+            }
+        } catch (IOException e) {
+            throw new InvalidRequestDataException("Could not read CSV file");
+        }
+        return emails;
+    }
+
+    private List<BulkEnrollmentRowResult> resolveUsers(List<String> emails) {
+        if (emails == null || emails.isEmpty()) {
+            throw new InvalidRequestDataException("At least one email is required");
+        }
+        if (emails.size() > maxRows) {
+            throw new InvalidRequestDataException("A bulk import is limited to " + maxRows + " rows");
+        }
+
+        List<BulkEnrollmentRowResult> rows = new ArrayList<>(emails.size());
+        Set<String> seen = new HashSet<>();
+        List<BulkEnrollmentRowResult> pending = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            String email = emails.get(i) == null ? "" : emails.get(i).trim();
+            BulkEnrollmentRowResult row = BulkEnrollmentRowResult.builder().row(i + 1).email(email).build();
+            if (email.isEmpty() || !email.contains("@")) {
+                row.setStatus(BulkEnrollmentRowResult.Status.INVALID_EMAIL);
+            } else if (!seen.add(normalize(email))) {
+                row.setStatus(BulkEnrollmentRowResult.Status.DUPLICATE);
+            } else {
+                pending.add(row);
+            }
+            rows.add(row);
+        }
+
+        for (int from = 0; from < pending.size(); from += CHUNK_SIZE) {
+            List<BulkEnrollmentRowResult> chunk = pending.subList(from, Math.min(from + CHUNK_SIZE, pending.size()));
+            Map<String, UUID> userIds = new HashMap<>();
+            // Matched case-insensitively on both sides, like the duplicate check above
+            jdbcTemplate.query("SELECT id, lower(email) AS email FROM users WHERE lower(email) IN (:emails)",
+                    Map.of("emails", chunk.stream().map(row -> normalize(row.getEmail())).toList()),
+                    rs -> {
+                        userIds.putIfAbsent(rs.getString("email"), rs.getObject("id", UUID.class));
+                    });
+            for (BulkEnrollmentRowResult row : chunk) {
+                UUID userId = userIds.get(normalize(row.getEmail()));
+                if (userId == null) {
+                    row.setStatus(BulkEnrollmentRowResult.Status.USER_NOT_FOUND);
+                } else {
+                    row.setUserId(userId);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Inserts the resolved rows in JDBC batches and marks each one from its update count:
+     * 1 for a new enrollment, 0 when ON CONFLICT skipped an existing one. Returns the number inserted.
+     */
+    private int insert(List<BulkEnrollmentRowResult> rows, String sql, UUID targetId, UUID currentLessonId) {
+        List<BulkEnrollmentRowResult> resolved = rows.stream()
+                .filter(row -> row.getStatus() == null)
+                .toList();
+
+        int inserted = 0;
+        for (int from = 0; from < resolved.size(); from += CHUNK_SIZE) {
+            List<BulkEnrollmentRowResult> chunk = resolved.subList(from, Math.min(from + CHUNK_SIZE, resolved.size()));
+            MapSqlParameterSource[] batch = chunk.stream()
+                    .map(row -> new MapSqlParameterSource()
+                            .addValue("userId", row.getUserId())
+                            .addValue("targetId", targetId)
+                            .addValue("currentLesson", currentLessonId))
+                    .toArray(MapSqlParameterSource[]::new);
+            int[] counts = jdbcTemplate.batchUpdate(sql, batch);
+            for (int i = 0; i < chunk.size(); i++) {
+                boolean created = counts[i] > 0;
+                chunk.get(i).setStatus(created
+                        ? BulkEnrollmentRowResult.Status.ENROLLED
+                        : BulkEnrollmentRowResult.Status.ALREADY_ENROLLED);
+                if (created) {
+                    inserted++;
+                }
+            }
+        }
+        return inserted;
+    }
+
+    private BulkEnrollmentResponse toResponse(List<BulkEnrollmentRowResult> rows) {
+        int enrolled = 0;
+        int alreadyEnrolled = 0;
+        for (BulkEnrollmentRowResult row : rows) {
+            if (row.getStatus() == BulkEnrollmentRowResult.Status.ENROLLED) {
+                enrolled++;
+            } else if (row.getStatus() == BulkEnrollmentRowResult.Status.ALREADY_ENROLLED) {
+                alreadyEnrolled++;
+            }
+        }
+        return BulkEnrollmentResponse.builder()
+                .total(rows.size())
+                .enrolled(enrolled)
+                .alreadyEnrolled(alreadyEnrolled)
+                .failed(rows.size() - enrolled - alreadyEnrolled)
+                .rows(rows)
+                .build();
+    }
+
+    private User getCurrentUser() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User with email " + email + " not found."));
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.backend.service;
+
+import com.example.backend.constant.EntityType;
+import com.example.backend.event.CatalogChangedEvent;
+import com.example.backend.event.CourseCountersChangedEvent;
+import com.example.backend.excecption.InternalServerError;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Caches serialized public catalog responses together with a strong ETag.
+ * Entries are dropped per entity type when a {@link CatalogChangedEvent} commits, and expire
+ * after {@code ttl-seconds} regardless, which bounds staleness across nodes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogCacheService {
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, CachedResponse> cache = new ConcurrentHashMap<>();
+    private final Map<EntityType, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Value("${app.catalog-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${app.catalog-cache.max-entries:5000}")
+    private int maxEntries;
+
+    public CachedResponse get(EntityType entityType, String key, Supplier<Object> loader) {
+        String cacheKey = entityType + "|" + key;
+        CachedResponse cached = cache.get(cacheKey);
+        if (cached != null && Instant.now().isBefore(cached.getExpiresAt())) {
+            return cached;
+        }
+
+        long generation = generation(entityType).get();
+        CachedResponse fresh = serialize(loader.get());
+
+        // A change committed while we were loading means this response may already be stale
+        if (generation(entityType).get() == generation && hasRoom()) {
+            cache.put(cacheKey, fresh);
+        }
+        return fresh;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        generation(event.getEntityType()).incrementAndGet();
+        String prefix = event.getEntityType() + "|";
+        cache.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Counter changes only affect listings and the changed courses' detail pages; facets and
+     * chapter outlines stay cached.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseCountersChanged(CourseCountersChangedEvent event) {
+        generation(EntityType.COURSE).incrementAndGet();
+        String listPrefix = EntityType.COURSE + "|list:";
+        Set<String> detailKeys = event.getCourseSlugs().stream()
+                .map(slug -> EntityType.COURSE + "|detail:" + slug)
+                .collect(Collectors.toSet());
+        cache.keySet().removeIf(key -> key.startsWith(listPrefix) || detailKeys.contains(key));
+    }
+
+    public static String listKey(Pageable pageable, List<String> tags, List<String> labels, String search) {
+        return "list:" + pageable.getPageNumber()
+                + ":" + pageable.getPageSize()
+                + ":" + pageable.getSort()
+                + ":" + normalize(tags)
+                + ":" + normalize(labels)
+                + ":" + (StringUtils.hasText(search) ? search.trim().toLowerCase() : "");
+    }
+
+    public static String facetsKey(List<String> tags, List<String> labels, String search) {
+        return "facets:" + normalize(tags)
+                + ":" + normalize(labels)
+                + ":" + (StringUtils.hasText(search) ? search.trim().toLowerCase() : "");
+    }
+
+    private static String normalize(List<String> values) {
+        return values == null ? "" : values.stream().sorted().collect(Collectors.joining(","));
+    }
+
+    private boolean hasRoom() {
+        if (cache.size() < maxEntries) {
+            return true;
+        }
+        Instant now = Instant.now();
+        cache.values().removeIf(response -> !now.isBefore(response.getExpiresAt()));
+        return cache.size() < maxEntries;
+    }
+
+    private AtomicLong generation(EntityType entityType) {
+        return generations.computeIfAbsent(entityType, type -> new AtomicLong());
+    }
+
+    private CachedResponse serialize(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new CachedResponse(body, etag, Instant.now().plus(Duration.ofSeconds(ttlSeconds)));
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing catalog response: {}", e.getMessage());
+            throw new InternalServerError("Could not serialize catalog response.", e.getMessage());
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CachedResponse {
+        private final byte[] body;
+        private final String etag;
+        private final Instant expiresAt;
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.backend.service;
 
+import com.example.backend.constant.EntityType;
+import com.example.backend.constant.SlugScope;
 import com.example.backend.dto.model.ChapterDto;
 import com.example.backend.dto.request.course.ChapterRequest;
 import com.example.backend.dto.model.ChapterPublicDto;
 import com.example.backend.entity.Chapter;
 import com.example.backend.entity.Course;
 import com.example.backend.entity.User;
+import com.example.backend.event.CatalogChangedEvent;
+import com.example.backend.event.CourseOutlineChangedEvent;
+import com.example.backend.event.SlugChangedEvent;
 import com.example.backend.excecption.ForbiddenException;
 import com.example.backend.excecption.ResourceNotFoundException;
 import com.example.backend.mapper.ChapterMapper;
@@ -13,6 +18,7 @@ import com.example.backend.repository.ChapterRepository;
 import com.example.backend.repository.CourseRepository;
 import com.example.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,7 +27,6 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import static com.example.backend.util.SlugConverter.toSlug;
 
 
 @Service
@@ -29,9 +34,12 @@ import static com.example.backend.util.SlugConverter.toSlug;
 public class ChapterService {
 
     private final ChapterRepository chapterRepository;
+    private final SlugRegistryService slugRegistryService;
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
     private final ChapterMapper chapterMapper;
+    private final CourseOutlineService courseOutlineService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<ChapterDto> getChaptersByCourse(String slug) {
@@ -46,11 +54,9 @@ public class ChapterService {
 
     @Transactional(readOnly = true)
     public List<ChapterPublicDto> getChaptersByCoursePublic(String slug) {
-        if (!courseRepository.existsBySlug(slug)) {
-            throw new ResourceNotFoundException("Course not found with slug: " + slug);
-        }
-        List<Chapter> chapters = chapterRepository.findByCourseSlugWithLessonsOrderByPositionAsc(slug);
-        return chapters.stream()
+        UUID courseId = slugRegistryService.resolve(SlugScope.COURSE, slug)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with slug: " + slug));
+        return courseOutlineService.getOutline(courseId).getChapters().stream()
                 .map(chapterMapper::toPublicDto)
                 .collect(Collectors.toList());
     }
@@ -70,11 +76,13 @@ public class ChapterService {
 
         Chapter chapter = chapterMapper.toEntity(request);
         chapter.setCourse(course);
-        chapter.setSlug(generateUniqueSlug(request.getTitle()));
+        chapter.setSlug(slugRegistryService.allocate(SlugScope.CHAPTER, request.getTitle()));
 
         chapter.setPosition(currentChapterCount + 1);
 
         Chapter savedChapter = chapterRepository.save(chapter);
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.COURSE, courseId));
+        eventPublisher.publishEvent(new CourseOutlineChangedEvent(courseId));
         return chapterMapper.toDto(savedChapter);
     }
 
@@ -82,10 +90,15 @@ public class ChapterService {
     public ChapterDto updateChapter(UUID chapterId, ChapterRequest request) {
         Chapter chapter = findChapterById(chapterId);
         checkCourseOwnership(chapter.getCourse());
-        chapter.setSlug(generateUniqueSlug(request.getTitle()));
+        if (!chapter.getTitle().equals(request.getTitle())) {
+            eventPublisher.publishEvent(new SlugChangedEvent(SlugScope.CHAPTER, chapter.getSlug()));
+            chapter.setSlug(slugRegistryService.allocate(SlugScope.CHAPTER, request.getTitle()));
+        }
 
         chapterMapper.updateEntityFromRequest(request, chapter);
         Chapter updatedChapter = chapterRepository.save(chapter);
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.COURSE, chapter.getCourse().getId()));
+        eventPublisher.publishEvent(new CourseOutlineChangedEvent(chapter.getCourse().getId()));
         return chapterMapper.toDto(updatedChapter);
     }
 
@@ -96,6 +109,9 @@ public class ChapterService {
         checkCourseOwnership(course);
 
         course.getChapters().remove(chapterToDelete);
+        eventPublisher.publishEvent(new SlugChangedEvent(SlugScope.CHAPTER, chapterToDelete.getSlug()));
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.COURSE, course.getId()));
+        eventPublisher.publishEvent(new CourseOutlineChangedEvent(course.getId()));
     }
 
     private User getCurrentUser() {
@@ -124,14 +140,4 @@ public class ChapterService {
                 .orElseThrow(() -> new ResourceNotFoundException("Chapter not found with id: " + chapterId));
     }
 
-    private String generateUniqueSlug(String title) {
-        String baseSlug = toSlug(title);
-        String slug = baseSlug;
-        int counter = 1;
-        while (chapterRepository.existsBySlug(slug)) {
-            slug = baseSlug + "-" + counter;
-            counter++;
-        }
-        return slug;
-    }
 }
\ No newline at end of file
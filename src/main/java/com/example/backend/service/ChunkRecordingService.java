@@ -17,10 +17,8 @@ import com.example.backend.repository.JobRepository;
 import com.example.backend.repository.LiveSessionRepository;
 import com.example.backend.repository.RecordingChunkRepository;
 import com.example.backend.repository.UserRepository;
-import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
-import io.minio.http.Method;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -31,8 +29,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -45,6 +43,7 @@ public class ChunkRecordingService {
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final RabbitTemplate rabbitTemplate;
+    private final PresignedUrlService presignedUrlService;
     
     @Value("${minio.bucket.name}")
     private String bucketName;
@@ -250,27 +249,18 @@ public class ChunkRecordingService {
                             .build();
                 }
                 
-                try {
-                    String presignedUrl = minioClient.getPresignedObjectUrl(
-                        GetPresignedObjectUrlArgs.builder()
-                            .method(Method.GET)
-                            .bucket(bucketName)
-                            .object(objectName)
-                            .expiry(2, TimeUnit.HOURS)
-                            .build()
-                    );
-                    
-                    return responseBuilder
-                            .videoUrl(presignedUrl)
-                            .message("Recording is ready")
-                            .build();
-                            
-                } catch (Exception e) {
+                String presignedUrl = presignedUrlService.signGetUrl(objectName, Duration.ofHours(2));
+                if (presignedUrl == null) {
                     return responseBuilder
                             .status(LiveSession.RecordingStatus.FAILED)
-                            .message("Error generating video URL: " + e.getMessage())
+                            .message("Error generating video URL")
                             .build();
                 }
+
+                return responseBuilder
+                        .videoUrl(presignedUrl)
+                        .message("Recording is ready")
+                        .build();
                 
             default:
                 return responseBuilder
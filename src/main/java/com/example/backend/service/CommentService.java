@@ -1,20 +1,29 @@
 package com.example.backend.service;
 
+import com.example.backend.dto.message.LessonCommentMessage;
 import com.example.backend.dto.request.comment.CommentRequest;
 import com.example.backend.dto.response.comment.CommentResponse;
+import com.example.backend.dto.response.comment.CommentVoteCounts;
 import com.example.backend.dto.response.comment.VoteResponse;
+import com.example.backend.dto.response.pagination.CursorPageResponse;
 import com.example.backend.entity.*;
+import com.example.backend.event.CommentChangedEvent;
 import com.example.backend.excecption.ForbiddenException;
+import com.example.backend.excecption.InvalidRequestDataException;
 import com.example.backend.excecption.ResourceNotFoundException;
 import com.example.backend.mapper.CommentMapper;
 import com.example.backend.repository.*;
+import com.example.backend.util.CommentPath;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -22,11 +31,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_REPLY_PREVIEW = 10;
+
     private final CommentRepository commentRepository;
     private final CommentVoteRepository commentVoteRepository;
     private final LessonRepository lessonRepository;
     private final UserRepository userRepository;
-    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentAccessService enrollmentAccessService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentResponse createComment(UUID lessonId, CommentRequest request) {
@@ -53,9 +65,10 @@ public class CommentService {
             comment.setParent(parentComment);
         }
 
-        Comment savedComment = commentRepository.save(comment);
-        List<CommentVote> votes = commentVoteRepository.findAllVotesByLessonId(lessonId);
-        return CommentMapper.toResponse(savedComment, currentUser, votes);
+        Comment savedComment = saveInThread(comment);
+        publishChange(LessonCommentMessage.MessageType.CREATED, savedComment);
+        // A new comment has no votes yet
+        return CommentMapper.toResponse(savedComment, currentUser, null);
     }
 
     @Transactional
@@ -79,9 +92,9 @@ public class CommentService {
             comment.setParent(parentComment);
         }
 
-        Comment savedComment = commentRepository.save(comment);
-        List<CommentVote> votes = commentVoteRepository.findAllVotesByLessonId(lesson.getId());
-        return CommentMapper.toResponse(savedComment, currentUser, votes);
+        Comment savedComment = saveInThread(comment);
+        publishChange(LessonCommentMessage.MessageType.CREATED, savedComment);
+        return CommentMapper.toResponse(savedComment, currentUser, null);
     }
 
 
@@ -93,26 +106,7 @@ public class CommentService {
         // Verify user has access to the lesson
         verifyLessonAccess(lesson, currentUser.getId());
 
-        // Get all comments for the lesson (including replies)
-        List<Comment> allComments = commentRepository.findAllCommentsByLessonId(lessonId);
-        List<CommentVote> allVotes = commentVoteRepository.findAllVotesByLessonId(lessonId);
-        
-        // Apply pagination to all comments
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allComments.size());
-        List<Comment> paginatedComments = allComments.subList(start, end);
-        
-        // Map to responses (parentId will indicate if it's a reply)
-        List<CommentResponse> responses = paginatedComments.stream()
-                .map(comment -> CommentMapper.toResponse(comment, currentUser, allVotes))
-                .collect(Collectors.toList());
-        
-        // Create a Page object
-        return new org.springframework.data.domain.PageImpl<>(
-                responses, 
-                pageable, 
-                allComments.size()
-        );
+        return toResponsePage(commentRepository.findPageByLessonId(lessonId, pageable), currentUser);
     }
 
     @Transactional(readOnly = true)
@@ -123,26 +117,7 @@ public class CommentService {
 
         verifyLessonAccess(lesson, currentUser.getId());
 
-        // Get all comments for the lesson (including replies)
-        List<Comment> allComments = commentRepository.findAllCommentsByLessonId(lesson.getId());
-        List<CommentVote> allVotes = commentVoteRepository.findAllVotesByLessonId(lesson.getId());
-        
-        // Apply pagination to all comments
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allComments.size());
-        List<Comment> paginatedComments = allComments.subList(start, end);
-        
-        // Map to responses (parentId will indicate if it's a reply)
-        List<CommentResponse> responses = paginatedComments.stream()
-                .map(comment -> CommentMapper.toResponse(comment, currentUser, allVotes))
-                .collect(Collectors.toList());
-        
-        // Create a Page object
-        return new org.springframework.data.domain.PageImpl<>(
-                responses, 
-                pageable, 
-                allComments.size()
-        );
+        return toResponsePage(commentRepository.findPageByLessonId(lesson.getId(), pageable), currentUser);
     }
 
     @Transactional(readOnly = true)
@@ -153,8 +128,7 @@ public class CommentService {
         // Verify user has access to the lesson
         verifyLessonAccess(comment.getLesson(), currentUser.getId());
         
-        List<CommentVote> votes = commentVoteRepository.findAllVotesByLessonId(comment.getLesson().getId());
-        return CommentMapper.toResponse(comment, currentUser, votes);
+        return CommentMapper.toResponse(comment, currentUser, findUserVote(commentId, currentUser.getId()));
     }
 
 
@@ -172,8 +146,8 @@ public class CommentService {
         comment.setModifiedBy(currentUser.getId());
 
         Comment updatedComment = commentRepository.save(comment);
-        List<CommentVote> votes = commentVoteRepository.findAllVotesByLessonId(comment.getLesson().getId());
-        return CommentMapper.toResponse(updatedComment, currentUser, votes);
+        publishChange(LessonCommentMessage.MessageType.UPDATED, updatedComment);
+        return CommentMapper.toResponse(updatedComment, currentUser, findUserVote(commentId, currentUser.getId()));
     }
 
     @Transactional
@@ -188,11 +162,140 @@ public class CommentService {
         }
 
         // Soft delete - mark as deleted instead of actual deletion
+        boolean wasVisible = !comment.getIsDeleted();
         comment.setIsDeleted(true);
         comment.setModifiedBy(currentUser.getId());
         commentRepository.save(comment);
+        if (wasVisible && comment.getRootId() != null) {
+            commentRepository.adjustReplyCount(comment.getRootId(), -1);
+        }
+        if (wasVisible) {
+            publishChange(LessonCommentMessage.MessageType.DELETED, comment);
+        }
+    }
+
+    /**
+     * Returns a page of top-level comments, each with the first {@code previewSize} replies of its
+     * thread in order and the thread's reply count. Uses the same handful of queries whatever the page holds.
+     */
+    @Transactional(readOnly = true)
+    public Page<CommentResponse> getCommentThreadsForLesson(UUID lessonId, Pageable pageable, int previewSize) {
+        User currentUser = getCurrentUser();
+        Lesson lesson = findLessonById(lessonId);
+        verifyLessonAccess(lesson, currentUser.getId());
+
+        Page<Comment> roots = commentRepository.findRootCommentsByLessonId(lessonId, pageable);
+        List<UUID> rootIds = roots.getContent().stream().map(Comment::getId).toList();
+
+        int previews = Math.min(Math.max(previewSize, 0), MAX_REPLY_PREVIEW);
+        List<Comment> replies = List.of();
+        if (previews > 0 && !rootIds.isEmpty()) {
+            List<UUID> replyIds = commentRepository.findReplyPreviewIds(rootIds, previews);
+            if (!replyIds.isEmpty()) {
+                replies = commentRepository.findAllWithAuthorByIdIn(replyIds);
+            }
+        }
+        Map<UUID, List<Comment>> repliesByRoot = replies.stream()
+                .sorted(Comparator.comparing(Comment::getPath))
+                .collect(Collectors.groupingBy(Comment::getRootId));
+
+        List<UUID> commentIds = new ArrayList<>(rootIds);
+        replies.forEach(reply -> commentIds.add(reply.getId()));
+        Map<UUID, Boolean> userVotes = findUserVotes(currentUser.getId(), commentIds);
+
+        return roots.map(root -> {
+            List<Comment> thread = repliesByRoot.getOrDefault(root.getId(), List.of());
+            CommentResponse response = CommentMapper.toResponse(root, currentUser, userVotes.get(root.getId()));
+            response.setReplies(thread.stream()
+                    .map(reply -> CommentMapper.toResponse(reply, currentUser, userVotes.get(reply.getId())))
+                    .collect(Collectors.toList()));
+            if (!thread.isEmpty() && thread.size() < root.getReplyCount()) {
+                response.setNextRepliesCursor(CommentPath.encodeCursor(thread.get(thread.size() - 1).getPath()));
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Loads more replies below a comment in thread order, continuing after the given cursor.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CommentResponse> getReplies(UUID commentId, String cursor, int size) {
+        User currentUser = getCurrentUser();
+        Comment comment = findCommentById(commentId);
+        verifyLessonAccess(comment.getLesson(), currentUser.getId());
+
+        String prefix = comment.getPath() + CommentPath.SEPARATOR;
+        String after = cursor != null ? CommentPath.decodeCursor(cursor) : "";
+        if (!after.isEmpty() && !after.startsWith(prefix)) {
+            throw new InvalidRequestDataException("Cursor does not belong to this comment");
+        }
+
+        UUID rootId = comment.getRootId() != null ? comment.getRootId() : comment.getId();
+        int limit = CursorPageResponse.clampSize(size);
+        List<Comment> rows = commentRepository.findRepliesAfter(rootId, prefix + "%", after, Limit.of(limit + 1));
+        return CursorPageResponse.of(rows, limit,
+                page -> {
+                    Map<UUID, Boolean> userVotes = findUserVotes(currentUser.getId(), page.stream().map(Comment::getId).toList());
+                    return page.stream()
+                            .map(reply -> CommentMapper.toResponse(reply, currentUser, userVotes.get(reply.getId())))
+                            .toList();
+                },
+                reply -> CommentPath.encodeCursor(reply.getPath()));
+    }
+
+
+    /**
+     * Places the comment in its thread (root, depth, materialized path) and saves it. A reply also
+     * bumps the reply count of its thread's top-level comment.
+     */
+    private Comment saveInThread(Comment comment) {
+        Comment parent = comment.getParent();
+        if (parent == null) {
+            comment.setPath(CommentPath.root(Instant.now()));
+            return commentRepository.save(comment);
+        }
+        comment.setRootId(parent.getRootId() != null ? parent.getRootId() : parent.getId());
+        comment.setDepth(parent.getDepth() + 1);
+        comment.setPath(CommentPath.child(parent.getPath(), Instant.now()));
+        Comment saved = commentRepository.save(comment);
+        commentRepository.adjustReplyCount(saved.getRootId(), 1);
+        return saved;
+    }
+
+    /**
+     * Queues the change for the lesson's comment stream; it is pushed once the transaction commits.
+     */
+    private void publishChange(LessonCommentMessage.MessageType type, Comment comment) {
+        eventPublisher.publishEvent(new CommentChangedEvent(LessonCommentMessage.builder()
+                .type(type)
+                .lessonId(comment.getLesson().getId())
+                .commentId(comment.getId())
+                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                .comment(type != LessonCommentMessage.MessageType.DELETED ? CommentMapper.toResponse(comment, null, null) : null)
+                .build()));
+    }
+
+    /**
+     * Maps a page of comments, fetching the current user's votes for just those comments in one query.
+     */
+    private Page<CommentResponse> toResponsePage(Page<Comment> comments, User currentUser) {
+        Map<UUID, Boolean> userVotes = findUserVotes(currentUser.getId(),
+                comments.getContent().stream().map(Comment::getId).toList());
+        return comments.map(comment -> CommentMapper.toResponse(comment, currentUser, userVotes.get(comment.getId())));
+    }
+
+    private Map<UUID, Boolean> findUserVotes(UUID userId, List<UUID> commentIds) {
+        if (commentIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentVoteRepository.findByUserIdAndCommentIds(userId, commentIds).stream()
+                .collect(Collectors.toMap(vote -> vote.getComment().getId(), CommentVote::getVoteType));
     }
 
+    private Boolean findUserVote(UUID commentId, UUID userId) {
+        return commentVoteRepository.findVoteType(commentId, userId).orElse(null);
+    }
 
     private User getCurrentUser() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -212,7 +315,7 @@ public class CommentService {
 
     private void verifyLessonAccess(Lesson lesson, UUID userId) {
         // Check if user is enrolled in the course that contains this lesson
-        boolean hasAccess = enrollmentRepository.existsByMemberIdAndCourseId(userId, lesson.getCourse().getId());
+        boolean hasAccess = enrollmentAccessService.isEnrolledInCourse(userId, lesson.getCourse().getId());
         if (!hasAccess) {
             throw new ForbiddenException("You must be enrolled in the course to access this lesson's comments");
         }
@@ -226,59 +329,32 @@ public class CommentService {
         // Verify user has access to the lesson
         verifyLessonAccess(comment.getLesson(), currentUser.getId());
 
-        // Check if user already voted
-        CommentVote existingVote = commentVoteRepository.findByCommentIdAndUserId(commentId, currentUser.getId())
-                .orElse(null);
-
-        if (existingVote != null) {
-            if (existingVote.getVoteType().equals(isUpvote)) {
-                // Remove vote if clicking the same vote type
-                commentVoteRepository.delete(existingVote);
-                // Decrease the corresponding vote count
-                if (isUpvote) {
-                    comment.setUpvotes(Math.max(0, comment.getUpvotes() - 1));
-                } else {
-                    comment.setDownvotes(Math.max(0, comment.getDownvotes() - 1));
-                }
-            } else {
-                // Change vote type - need to adjust both counts
-                Boolean oldVoteType = existingVote.getVoteType();
-                existingVote.setVoteType(isUpvote);
-                commentVoteRepository.save(existingVote);
-                
-                // Decrease old vote count and increase new vote count
-                if (oldVoteType) {
-                    // Was upvote, now downvote
-                    comment.setUpvotes(Math.max(0, comment.getUpvotes() - 1));
-                    comment.setDownvotes(comment.getDownvotes() + 1);
-                } else {
-                    // Was downvote, now upvote
-                    comment.setDownvotes(Math.max(0, comment.getDownvotes() - 1));
-                    comment.setUpvotes(comment.getUpvotes() + 1);
-                }
-            }
+        // Clicking the vote the user already has removes it; anything else casts or switches it.
+        // Both paths write the vote and move the counters in one statement, so concurrent votes never lose updates.
+        Boolean existingVote = commentVoteRepository.findVoteType(commentId, currentUser.getId()).orElse(null);
+        CommentVoteCounts counts;
+        Boolean userVote;
+        if (isUpvote.equals(existingVote)) {
+            counts = commentVoteRepository.removeVote(commentId, currentUser.getId(), isUpvote);
+            userVote = null;
         } else {
-            // Create new vote
-            CommentVote newVote = CommentVote.builder()
-                    .comment(comment)
-                    .user(currentUser)
-                    .voteType(isUpvote)
-                    .build();
-            commentVoteRepository.save(newVote);
-            
-            // Increase the corresponding vote count
-            if (isUpvote) {
-                comment.setUpvotes(comment.getUpvotes() + 1);
-            } else {
-                comment.setDownvotes(comment.getDownvotes() + 1);
-            }
+            counts = commentVoteRepository.castVote(commentId, currentUser.getId(), isUpvote);
+            userVote = isUpvote;
         }
 
-        // Save the comment with updated vote counts
-        Comment updatedComment = commentRepository.save(comment);
-        
-        List<CommentVote> votes = commentVoteRepository.findAllVotesByLessonId(comment.getLesson().getId());
-        return CommentMapper.toResponse(updatedComment, currentUser, votes);
+        eventPublisher.publishEvent(new CommentChangedEvent(LessonCommentMessage.builder()
+                .type(LessonCommentMessage.MessageType.VOTES)
+                .lessonId(comment.getLesson().getId())
+                .commentId(commentId)
+                .parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+                .upvotes(counts.getUpvotes())
+                .downvotes(counts.getDownvotes())
+                .build()));
+
+        CommentResponse response = CommentMapper.toResponse(comment, currentUser, userVote);
+        response.setUpvotes(counts.getUpvotes());
+        response.setDownvotes(counts.getDownvotes());
+        return response;
     }
     
 
@@ -0,0 +1,32 @@
+package com.example.backend.service;
+
+import com.example.backend.constant.EntityType;
+import com.example.backend.event.CatalogChangedEvent;
+import com.example.backend.repository.CourseCardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the course_cards read model in step with its source tables. A card is rebuilt
+ * before the transaction that changed its course commits, so readers never see the
+ * change without the card (or the reverse), and {@link CatalogCacheService} evicts
+ * only after both are visible.
+ * <p>
+ * Only content, tag and instructor edits rebuild a card here. Enrollment and rating counters
+ * change far more often and are copied onto the cards by {@link EnrollmentCounterService}.
+ */
+@Service
+@RequiredArgsConstructor
+public class CourseCardService {
+
+    private final CourseCardRepository courseCardRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getEntityType() == EntityType.COURSE && event.getEntityId() != null) {
+            courseCardRepository.refresh(event.getEntityId());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.backend.service;
+
+import com.example.backend.entity.Chapter;
+import com.example.backend.entity.Lesson;
+import com.example.backend.event.CourseOutlineChangedEvent;
+import com.example.backend.repository.ChapterRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches an immutable outline of each course: chapters in order, each with its lessons' ids,
+ * titles and slugs. Readers share one snapshot instead of loading chapters and lessons themselves.
+ * <p>
+ * Each course has a version that a {@link CourseOutlineChangedEvent} bumps on commit. A snapshot
+ * is only cached if the version it was loaded under is still current, so a load that raced a
+ * change is never kept. Snapshots also expire after {@code ttl-seconds}, which bounds staleness
+ * across nodes.
+ */
+@Service
+@RequiredArgsConstructor
+public class CourseOutlineService {
+
+    private static final Comparator<Integer> POSITION_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private final ChapterRepository chapterRepository;
+
+    private final Map<UUID, CourseOutline> outlines = new ConcurrentHashMap<>();
+    private final Map<UUID, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Value("${app.course-outline.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${app.course-outline.max-entries:5000}")
+    private int maxEntries;
+
+    public CourseOutline getOutline(UUID courseId) {
+        CourseOutline cached = outlines.get(courseId);
+        if (cached != null && Instant.now().isBefore(cached.getExpiresAt())) {
+            return cached;
+        }
+
+        long version = version(courseId).get();
+        CourseOutline loaded = load(courseId, version);
+        if (version(courseId).get() == version && hasRoom(courseId)) {
+            outlines.put(courseId, loaded);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseOutlineChanged(CourseOutlineChangedEvent event) {
+        version(event.getCourseId()).incrementAndGet();
+        outlines.remove(event.getCourseId());
+    }
+
+    private CourseOutline load(UUID courseId, long version) {
+        List<Chapter> chapters = new ArrayList<>(chapterRepository.findByCourseIdWithLessons(courseId));
+        chapters.sort(Comparator.comparing(Chapter::getPosition, POSITION_ORDER).thenComparing(Chapter::getId));
+
+        List<ChapterOutline> chapterOutlines = new ArrayList<>(chapters.size());
+        for (Chapter chapter : chapters) {
+            List<LessonOutline> lessons = chapter.getLessons().stream()
+                    .sorted(Comparator.comparing(Lesson::getPosition, POSITION_ORDER).thenComparing(Lesson::getId))
+                    .map(lesson -> new LessonOutline(lesson.getId(), chapter.getId(), lesson.getTitle(),
+                            lesson.getSlug(), lesson.getPosition()))
+                    .toList();
+            chapterOutlines.add(new ChapterOutline(chapter.getId(), chapter.getTitle(), chapter.getSlug(),
+                    chapter.getPosition(), lessons));
+        }
+        return new CourseOutline(courseId, version, List.copyOf(chapterOutlines),
+                Instant.now().plus(Duration.ofSeconds(ttlSeconds)));
+    }
+
+    private AtomicLong version(UUID courseId) {
+        return versions.computeIfAbsent(courseId, id -> new AtomicLong());
+    }
+
+    private boolean hasRoom(UUID courseId) {
+        if (outlines.size() < maxEntries || outlines.containsKey(courseId)) {
+            return true;
+        }
+        Instant now = Instant.now();
+        outlines.values().removeIf(outline -> !now.isBefore(outline.getExpiresAt()));
+        return outlines.size() < maxEntries;
+    }
+
+    @Getter
+    public static class CourseOutline {
+        private final UUID courseId;
+        private final long version;
+        private final List<ChapterOutline> chapters;
+        // Every lesson in study order: chapters by position, then lessons by position
+        private final List<LessonOutline> lessons;
+        private final Map<UUID, Integer> positions;
+        private final Instant expiresAt;
+
+        CourseOutline(UUID courseId, long version, List<ChapterOutline> chapters, Instant expiresAt) {
+            this.courseId = courseId;
+            this.version = version;
+            this.chapters = chapters;
+            this.lessons = chapters.stream().flatMap(chapter -> chapter.getLessons().stream()).toList();
+            Map<UUID, Integer> positions = new HashMap<>(lessons.size() * 2);
+            for (int i = 0; i < lessons.size(); i++) {
+                positions.put(lessons.get(i).getId(), i);
+            }
+            this.positions = Collections.unmodifiableMap(positions);
+            this.expiresAt = expiresAt;
+        }
+
+        public Optional<LessonOutline> findLesson(UUID lessonId) {
+            Integer position = positions.get(lessonId);
+            return position != null ? Optional.of(lessons.get(position)) : Optional.empty();
+        }
+
+        public Optional<LessonOutline> previous(UUID lessonId) {
+            Integer position = positions.get(lessonId);
+            return position != null && position > 0 ? Optional.of(lessons.get(position - 1)) : Optional.empty();
+        }
+
+        public Optional<LessonOutline> next(UUID lessonId) {
+            Integer position = positions.get(lessonId);
+            return position != null && position + 1 < lessons.size() ? Optional.of(lessons.get(position + 1)) : Optional.empty();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ChapterOutline {
+        private final UUID id;
+        private final String title;
+        private final String slug;
+        private final Integer position;
+        private final List<LessonOutline> lessons;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class LessonOutline {
+        private final UUID id;
+        private final UUID chapterId;
+        private final String title;
+        private final String slug;
+        private final Integer position;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.backend.service;
+
+import com.example.backend.repository.CourseProgressRepository;
+import com.example.backend.repository.LessonRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Derives enrollment progress from the course's lessons and the completed lessons in
+ * course_progress. The percentage and the next lesson are written to the enrollment, so both are
+ * read from the database on every call (two indexed queries) rather than from the node-local
+ * {@link CourseOutlineService} cache: a lesson added or removed on another node must never leave
+ * a stale percentage persisted.
+ */
+@Service
+@RequiredArgsConstructor
+public class CourseProgressEngine {
+
+    private final CourseProgressRepository courseProgressRepository;
+    private final LessonRepository lessonRepository;
+
+    /**
+     * Returns the progress of the enrollment as of the lessons and completions visible to the current transaction.
+     */
+    public ProgressSnapshot snapshot(UUID memberId, UUID courseId) {
+        List<UUID> lessonIds = lessonRepository.findIdsInStudyOrder(courseId);
+        if (lessonIds.isEmpty()) {
+            return new ProgressSnapshot(BigDecimal.ZERO, null);
+        }
+        Set<UUID> completed = new HashSet<>(courseProgressRepository.findCompletedLessonIds(memberId, courseId));
+
+        int done = 0;
+        UUID nextLessonId = null;
+        for (UUID lessonId : lessonIds) {
+            if (completed.contains(lessonId)) {
+                done++;
+            } else if (nextLessonId == null) {
+                nextLessonId = lessonId;
+            }
+        }
+        BigDecimal progress = BigDecimal.valueOf(done)
+                .divide(BigDecimal.valueOf(lessonIds.size()), 4, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100));
+        return new ProgressSnapshot(progress, nextLessonId);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ProgressSnapshot {
+        private final BigDecimal progress;
+        private final UUID nextLessonId;
+    }
+}
@@ -2,36 +2,48 @@ package com.example.backend.service;
 
 import com.example.backend.constant.CourseStatus;
 import com.example.backend.constant.EntityType;
+import com.example.backend.constant.SlugScope;
 import com.example.backend.constant.UserRoleEnum;
 import com.example.backend.dto.model.*;
 import com.example.backend.dto.request.course.CourseRequest;
+import com.example.backend.dto.response.catalog.CatalogFacetsResponse;
+import com.example.backend.dto.response.catalog.FacetCount;
+import com.example.backend.dto.response.pagination.CursorPageResponse;
 import com.example.backend.entity.*;
+import com.example.backend.event.CatalogChangedEvent;
+import com.example.backend.event.SlugChangedEvent;
 import com.example.backend.excecption.ForbiddenException;
 import com.example.backend.excecption.InvalidRequestDataException;
 import com.example.backend.excecption.ResourceNotFoundException;
 import com.example.backend.mapper.CourseMapper;
 import com.example.backend.mapper.UserMapper;
 import com.example.backend.repository.*;
+import com.example.backend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import static com.example.backend.util.SlugConverter.toSlug;
 
 @Service
 @RequiredArgsConstructor
 public class CourseService {
 
     private final CourseRepository courseRepository;
+    private final SlugRegistryService slugRegistryService;
+    private final CourseCardRepository courseCardRepository;
     private final UserRepository userRepository;
     private final CourseInstructorRepository courseInstructorRepository;
     private final CourseMapper courseMapper;
@@ -40,18 +52,43 @@ public class CourseService {
     private final TagRepository tagRepository;
     private final LabelRepository labelRepository;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional(readOnly = true)
     public Page<CoursePublicDto> getPublishedCourses(Pageable pageable, List<String> tags, List<String> labels, String search) {
-        Specification<Course> spec = CourseSpecification.isPublished();
+        return courseCardRepository.findAll(publishedCardSpec(tags, labels, search), pageable)
+                .map(courseMapper::toPublicDto);
+    }
 
-        spec = spec.and(CourseSpecification.titleContains(search))
-                .and(CourseSpecification.hasLabels(labels))
-                .and(CourseSpecification.hasTags(tags));
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CoursePublicDto> scrollPublishedCourses(String cursor, int size, List<String> tags, List<String> labels, String search) {
+        Specification<CourseCard> spec = publishedCardSpec(tags, labels, search);
+        if (cursor != null) {
+            KeysetCursor.Position<OffsetDateTime> after = KeysetCursor.decode(cursor, OffsetDateTime::parse);
+            spec = spec.and(KeysetSpecification.before("creation", after.getTimestamp(), after.getId()));
+        }
 
-        Page<Course> coursePage = courseRepository.findAll(spec, pageable);
-        return getCoursePublicDtos(coursePage);
+        int limit = CursorPageResponse.clampSize(size);
+        List<CourseCard> cards = courseCardRepository.findBy(spec, query -> query
+                .sortBy(KeysetSpecification.newestFirst("creation"))
+                .limit(limit + 1)
+                .all());
+        return CursorPageResponse.of(cards, limit,
+                page -> page.stream().map(courseMapper::toPublicDto).toList(),
+                card -> KeysetCursor.encode(card.getCreation(), card.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public CatalogFacetsResponse getCatalogFacets(List<String> tags, List<String> labels, String search) {
+        List<FacetCount> counts = courseCardRepository.countFacets(
+                StringUtils.hasText(search) ? search.trim() : "",
+                tags != null ? tags.toArray(String[]::new) : new String[0],
+                labels != null ? labels.toArray(String[]::new) : new String[0]);
+        return CatalogFacetsResponse.builder()
+                .tags(counts.stream().filter(count -> "TAG".equals(count.getFacet())).toList())
+                .labels(counts.stream().filter(count -> "LABEL".equals(count.getFacet())).toList())
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -63,11 +100,9 @@ public class CourseService {
 
     @Transactional(readOnly = true)
     public CourseDto getCourseBySlug(String slug) {
-        Course course = courseRepository.findBySlug(slug)
+        Course course = courseRepository.findWithInstructorsBySlug(slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found with slug: " + slug));
-        List<Tag> tags = tagRepository.findByEntityIdAndEntityType(course.getId(), EntityType.COURSE);
-        List<Label> labels = labelRepository.findByEntityIdAndEntityType(course.getId(), EntityType.COURSE);
-        return courseMapper.toDto(course, tags, labels);
+        return toDetailDto(course);
     }
 
     @Transactional(readOnly = true)
@@ -81,11 +116,10 @@ public class CourseService {
 
     @Transactional(readOnly = true)
     public CourseDto getCourseByIdForInstructor(UUID courseId) {
-        Course course = findCourseById(courseId);
+        Course course = courseRepository.findWithInstructorsById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + courseId));
         checkCourseOwnership(course);
-        List<Tag> tags = tagRepository.findByEntityIdAndEntityType(course.getId(), EntityType.COURSE);
-        List<Label> labels = labelRepository.findByEntityIdAndEntityType(course.getId(), EntityType.COURSE);
-        return courseMapper.toDto(course, tags, labels);
+        return toDetailDto(course);
     }
 
     @Transactional
@@ -94,7 +128,7 @@ public class CourseService {
 
         Course course = CourseMapper.toEntity(request);
         course.setStatus(CourseStatus.DRAFT);
-        course.setSlug(generateUniqueSlug(request.getTitle()));
+        course.setSlug(slugRegistryService.allocate(SlugScope.COURSE, request.getTitle()));
 
         Course savedCourse = courseRepository.save(course);
 
@@ -114,12 +148,14 @@ public class CourseService {
         Course course = findCourseById(courseId);
         checkCourseOwnership(course);
 
-        courseMapper.updateEntityFromRequest(request, course);
-
+        // Compare before the mapper overwrites the title, otherwise a rename never gets a new slug
         if (!course.getTitle().equals(request.getTitle())) {
-            course.setSlug(generateUniqueSlug(request.getTitle()));
+            eventPublisher.publishEvent(new SlugChangedEvent(SlugScope.COURSE, course.getSlug()));
+            course.setSlug(slugRegistryService.allocate(SlugScope.COURSE, request.getTitle()));
         }
 
+        courseMapper.updateEntityFromRequest(request, course);
+
         tagRepository.deleteByEntityIdAndEntityType(courseId, EntityType.COURSE);
         labelRepository.deleteByEntityIdAndEntityType(courseId, EntityType.COURSE);
 
@@ -127,19 +163,10 @@ public class CourseService {
         List<Label> labels = labelService.upsertLabels(request.getLabel().stream().map(LabelDto::getName).collect(Collectors.toList()), course.getId(), EntityType.COURSE);
 
         Course updatedCourse = courseRepository.save(course);
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.COURSE, courseId));
         return courseMapper.toDto(updatedCourse, tags, labels);
     }
 
-    private String generateUniqueSlug(String title) {
-        String baseSlug = toSlug(title);
-        String slug = baseSlug;
-        int counter = 1;
-        while (courseRepository.existsBySlug(slug)) {
-            slug = baseSlug + "-" + counter;
-            counter++;
-        }
-        return slug;
-    }
 
     @Transactional
     public void deleteCourse(UUID courseId) {
@@ -152,6 +179,8 @@ public class CourseService {
         tagRepository.deleteByEntityIdAndEntityType(courseId, EntityType.COURSE);
         labelRepository.deleteByEntityIdAndEntityType(courseId, EntityType.COURSE);
         courseRepository.delete(course);
+        eventPublisher.publishEvent(new SlugChangedEvent(SlugScope.COURSE, course.getSlug()));
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.COURSE, courseId));
     }
 
     @Transactional
@@ -165,6 +194,7 @@ public class CourseService {
 
         course.setStatus(CourseStatus.PUBLISHED);
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.COURSE, courseId));
     }
 
     @Transactional
@@ -212,6 +242,7 @@ public class CourseService {
                 courseInstructorRepository.save(newInstructor);
             }
         }
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.COURSE, courseId));
     }
 
     @Transactional(readOnly = true)
@@ -244,19 +275,30 @@ public class CourseService {
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + courseId));
     }
 
+    /**
+     * Maps a course loaded with its instructors to a full CourseDto in a fixed number of queries:
+     * one for the chapter/lesson/quiz outline, one each for tags and labels.
+     */
+    private CourseDto toDetailDto(Course course) {
+        courseRepository.fetchOutlineById(course.getId());
+        List<Tag> tags = tagRepository.findByEntityIdAndEntityType(course.getId(), EntityType.COURSE);
+        List<Label> labels = labelRepository.findByEntityIdAndEntityType(course.getId(), EntityType.COURSE);
+        return courseMapper.toDto(course, tags, labels);
+    }
+
     private Page<CourseDto> getCourseDtos(Page<Course> coursePage) {
-        return coursePage.map(course -> {
-            List<Tag> tags = tagRepository.findByEntityIdAndEntityType(course.getId(), EntityType.COURSE);
-            List<Label> labels = labelRepository.findByEntityIdAndEntityType(course.getId(), EntityType.COURSE);
-            return courseMapper.toDto(course, tags, labels);
-        });
+        List<UUID> courseIds = coursePage.map(Course::getId).getContent();
+        Map<UUID, List<Tag>> tagsByCourse = tagService.getTagsByEntityIds(courseIds, EntityType.COURSE);
+        Map<UUID, List<Label>> labelsByCourse = labelService.getLabelsByEntityIds(courseIds, EntityType.COURSE);
+        return coursePage.map(course -> courseMapper.toDto(course,
+                tagsByCourse.getOrDefault(course.getId(), List.of()),
+                labelsByCourse.getOrDefault(course.getId(), List.of())));
     }
 
-    private Page<CoursePublicDto> getCoursePublicDtos(Page<Course> coursePage) {
-        return coursePage.map(course -> {
-            List<Tag> tags = tagRepository.findByEntityIdAndEntityType(course.getId(), EntityType.COURSE);
-            List<Label> labels = labelRepository.findByEntityIdAndEntityType(course.getId(), EntityType.COURSE);
-            return courseMapper.toPublicDto(course, tags, labels);
-        });
+    private Specification<CourseCard> publishedCardSpec(List<String> tags, List<String> labels, String search) {
+        // Only published courses have a card, so there is no status filter here
+        return Specification.where(CourseCardSpecification.matchesSearch(search))
+                .and(CourseCardSpecification.hasLabels(labels))
+                .and(CourseCardSpecification.hasTags(tags));
     }
 }
@@ -0,0 +1,354 @@
+package com.example.backend.service;
+
+import com.example.backend.config.RabbitMQConfig;
+import com.example.backend.constant.JobStatus;
+import com.example.backend.dto.request.admin.ReplayDeadLettersRequest;
+import com.example.backend.dto.response.admin.DeadLetterReplayResponse;
+import com.example.backend.dto.response.admin.DeadLetterSummaryResponse;
+import com.example.backend.excecption.InvalidRequestDataException;
+import com.example.backend.repository.JobRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+/**
+ * Inspects and replays the transcoding/transcription dead-letter queues.
+ * Messages are replayed straight back onto the queue they died in (default exchange),
+ * so a transcription failure is not fanned out to the transcoding worker again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterReplayService {
+
+    private static final String UNKNOWN_REASON = "unknown";
+    private static final int MAX_REASON_LENGTH = 200;
+    private static final int SAMPLE_JOB_IDS = 5;
+
+    private static final Map<String, String> SOURCE_QUEUES = Map.of(
+            RabbitMQConfig.DLQ_NAME, RabbitMQConfig.QUEUE_NAME,
+            RabbitMQConfig.TRANSCRIPTION_DLQ_NAME, RabbitMQConfig.TRANSCRIPTION_QUEUE_NAME
+    );
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ConnectionFactory connectionFactory;
+    private final JobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.dlq.inspection.sample-size:500}")
+    private int inspectionSampleSize;
+
+    @Value("${app.dlq.replay.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.dlq.replay.rate-per-second:20}")
+    private int ratePerSecond;
+
+    @Value("${app.dlq.replay.max-messages:1000}")
+    private int defaultMaxMessages;
+
+    @Value("${app.dlq.replay.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.dlq.replay.initial-backoff-ms:500}")
+    private long initialBackoffMs;
+
+    @Value("${app.dlq.replay.max-deaths:5}")
+    private long maxDeaths;
+
+    @Value("${app.dlq.replay.auto-enabled:false}")
+    private boolean autoReplayEnabled;
+
+    public List<String> getDeadLetterQueues() {
+        return List.copyOf(new TreeSet<>(SOURCE_QUEUES.keySet()));
+    }
+
+    /**
+     * Peeks at up to {@code sample-size} messages and groups them by failure reason.
+     * Every message is nacked back onto the queue afterwards.
+     */
+    public DeadLetterSummaryResponse inspect(String queue) {
+        resolveSourceQueue(queue);
+
+        return rabbitTemplate.execute(channel -> {
+            Map<String, DeadLetterSummaryResponse.ReasonGroup> groups = new LinkedHashMap<>();
+            List<Long> deliveryTags = new ArrayList<>();
+            try {
+                while (deliveryTags.size() < inspectionSampleSize) {
+                    GetResponse response = channel.basicGet(queue, false);
+                    if (response == null) {
+                        break;
+                    }
+                    deliveryTags.add(response.getEnvelope().getDeliveryTag());
+
+                    DeadLetterSummaryResponse.ReasonGroup group = groups.computeIfAbsent(
+                            failureReason(response.getProps()),
+                            reason -> new DeadLetterSummaryResponse.ReasonGroup(reason, 0, new ArrayList<>()));
+                    group.setCount(group.getCount() + 1);
+                    UUID jobId = extractJobId(response.getBody());
+                    if (jobId != null && group.getSampleJobIds().size() < SAMPLE_JOB_IDS) {
+                        group.getSampleJobIds().add(jobId);
+                    }
+                }
+            } finally {
+                for (Long tag : deliveryTags) {
+                    channel.basicNack(tag, false, true);
+                }
+            }
+
+            List<DeadLetterSummaryResponse.ReasonGroup> reasons = new ArrayList<>(groups.values());
+            reasons.sort(Comparator.comparingInt(DeadLetterSummaryResponse.ReasonGroup::getCount).reversed());
+
+            return DeadLetterSummaryResponse.builder()
+                    .queue(queue)
+                    .inspected(deliveryTags.size())
+                    .reasons(reasons)
+                    .build();
+        });
+    }
+
+    /**
+     * Replays matching messages in batches of {@code batch-size}. Each batch is republished and acked
+     * in one AMQP transaction, retried with exponential backoff, and throttled to {@code rate-per-second}.
+     * Jobs referenced by the replayed messages are moved back to PENDING once their batch commits.
+     */
+    public DeadLetterReplayResponse replay(String queue, ReplayDeadLettersRequest request) {
+        String sourceQueue = resolveSourceQueue(queue);
+        String reasonFilter = request != null ? request.getReason() : null;
+        int maxMessages = request != null && request.getMaxMessages() != null
+                ? request.getMaxMessages()
+                : defaultMaxMessages;
+        // Skipped messages stay unacked until the end, so bound how far we scan past them
+        int scanLimit = maxMessages + inspectionSampleSize;
+
+        int scanned = 0;
+        int replayed = 0;
+        int jobsUpdated = 0;
+        boolean aborted = false;
+        List<Long> skippedTags = new ArrayList<>();
+
+        try (Connection connection = connectionFactory.createConnection()) {
+            Channel channel = connection.createChannel(true);
+            try {
+                boolean exhausted = false;
+                while (!exhausted && replayed < maxMessages && scanned < scanLimit) {
+                    long batchStart = System.currentTimeMillis();
+                    List<GetResponse> batch = new ArrayList<>();
+
+                    while (batch.size() < batchSize && replayed + batch.size() < maxMessages && scanned < scanLimit) {
+                        GetResponse response = channel.basicGet(queue, false);
+                        if (response == null) {
+                            exhausted = true;
+                            break;
+                        }
+                        scanned++;
+                        if (isReplayable(response, reasonFilter)) {
+                            batch.add(response);
+                        } else {
+                            skippedTags.add(response.getEnvelope().getDeliveryTag());
+                        }
+                    }
+
+                    if (batch.isEmpty()) {
+                        continue;
+                    }
+
+                    if (!publishWithBackoff(channel, sourceQueue, batch)) {
+                        aborted = true;
+                        batch.forEach(response -> skippedTags.add(response.getEnvelope().getDeliveryTag()));
+                        break;
+                    }
+
+                    replayed += batch.size();
+                    jobsUpdated += markJobsPending(batch);
+                    throttle(batchStart, batch.size());
+                }
+            } finally {
+                if (channel.isOpen()) {
+                    for (Long tag : skippedTags) {
+                        channel.basicNack(tag, false, true);
+                    }
+                    channel.txCommit();
+                    channel.close();
+                }
+            }
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("Dead-letter replay from {} failed after {} messages", queue, replayed, e);
+            aborted = true;
+        }
+
+        log.info("Replayed {} of {} scanned messages from {} to {} ({} jobs reset)",
+                replayed, scanned, queue, sourceQueue, jobsUpdated);
+
+        return DeadLetterReplayResponse.builder()
+                .queue(queue)
+                .scanned(scanned)
+                .replayed(replayed)
+                .skipped(scanned - replayed)
+                .jobsUpdated(jobsUpdated)
+                .aborted(aborted)
+                .build();
+    }
+
+    @Scheduled(fixedDelayString = "${app.dlq.inspection.interval-ms:600000}",
+            initialDelayString = "${app.dlq.inspection.initial-delay-ms:60000}")
+    public void inspectDeadLetterQueues() {
+        for (String queue : getDeadLetterQueues()) {
+            try {
+                DeadLetterSummaryResponse summary = inspect(queue);
+                if (summary == null || summary.getInspected() == 0) {
+                    continue;
+                }
+                summary.getReasons().forEach(group ->
+                        log.warn("DLQ {}: {} message(s) failed with '{}'", queue, group.getCount(), group.getReason()));
+
+                if (autoReplayEnabled) {
+                    replay(queue, null);
+                }
+            } catch (Exception e) {
+                log.error("Failed to inspect dead-letter queue {}", queue, e);
+            }
+        }
+    }
+
+    private boolean publishWithBackoff(Channel channel, String sourceQueue, List<GetResponse> batch) throws InterruptedException {
+        long backoff = initialBackoffMs;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                for (GetResponse response : batch) {
+                    channel.basicPublish("", sourceQueue, response.getProps(), response.getBody());
+                    channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
+                }
+                channel.txCommit();
+                return true;
+            } catch (IOException e) {
+                log.warn("Replay batch to {} failed (attempt {}/{}): {}", sourceQueue, attempt, maxAttempts, e.getMessage());
+                if (!channel.isOpen()) {
+                    // Broker requeues everything unacked when the channel dies
+                    return false;
+                }
+                try {
+                    channel.txRollback();
+                } catch (IOException rollbackError) {
+                    return false;
+                }
+                if (attempt < maxAttempts) {
+                    Thread.sleep(backoff);
+                    backoff *= 2;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int markJobsPending(List<GetResponse> batch) {
+        Set<UUID> jobIds = new HashSet<>();
+        for (GetResponse response : batch) {
+            UUID jobId = extractJobId(response.getBody());
+            if (jobId != null) {
+                jobIds.add(jobId);
+            }
+        }
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        return jobRepository.updateStatusByIdIn(jobIds, JobStatus.PENDING, OffsetDateTime.now());
+    }
+
+    private void throttle(long batchStart, int batchMessages) throws InterruptedException {
+        if (ratePerSecond <= 0) {
+            return;
+        }
+        long minimumMillis = batchMessages * 1000L / ratePerSecond;
+        long elapsed = System.currentTimeMillis() - batchStart;
+        if (elapsed < minimumMillis) {
+            Thread.sleep(minimumMillis - elapsed);
+        }
+    }
+
+    private boolean isReplayable(GetResponse response, String reasonFilter) {
+        if (deathCount(response.getProps()) >= maxDeaths) {
+            return false;
+        }
+        return reasonFilter == null || reasonFilter.equals(failureReason(response.getProps()));
+    }
+
+    private String resolveSourceQueue(String queue) {
+        String sourceQueue = SOURCE_QUEUES.get(queue);
+        if (sourceQueue == null) {
+            throw new InvalidRequestDataException("Unknown dead-letter queue: " + queue);
+        }
+        return sourceQueue;
+    }
+
+    private String failureReason(AMQP.BasicProperties props) {
+        Map<String, Object> headers = props.getHeaders();
+        if (headers == null) {
+            return UNKNOWN_REASON;
+        }
+
+        Object exceptionMessage = headers.get("x-exception-message");
+        if (exceptionMessage != null) {
+            return truncate(String.valueOf(exceptionMessage));
+        }
+
+        Map<?, ?> death = firstDeath(headers);
+        if (death != null && death.get("reason") != null) {
+            return String.valueOf(death.get("reason"));
+        }
+
+        Object firstDeathReason = headers.get("x-first-death-reason");
+        return firstDeathReason != null ? String.valueOf(firstDeathReason) : UNKNOWN_REASON;
+    }
+
+    private long deathCount(AMQP.BasicProperties props) {
+        Map<String, Object> headers = props.getHeaders();
+        if (headers == null) {
+            return 0;
+        }
+        Map<?, ?> death = firstDeath(headers);
+        if (death != null && death.get("count") instanceof Number count) {
+            return count.longValue();
+        }
+        return 0;
+    }
+
+    private Map<?, ?> firstDeath(Map<String, Object> headers) {
+        if (headers.get("x-death") instanceof List<?> deaths
+                && !deaths.isEmpty()
+                && deaths.get(0) instanceof Map<?, ?> death) {
+            return death;
+        }
+        return null;
+    }
+
+    private UUID extractJobId(byte[] body) {
+        try {
+            JsonNode jobId = objectMapper.readTree(body).path("jobId");
+            return jobId.isTextual() ? UUID.fromString(jobId.asText()) : null;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String truncate(String value) {
+        return value.length() > MAX_REASON_LENGTH ? value.substring(0, MAX_REASON_LENGTH) : value;
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
@@ -69,6 +70,19 @@ public class EmailService {
         }
     }
 
+    @Async
+    public void sendSeatOfferedEmail(String to, String studentName, String batchTitle, OffsetDateTime offeredUntil) {
+        try {
+            Map<String, String> variables = new HashMap<>();
+            variables.put("studentName", studentName);
+            variables.put("batchTitle", batchTitle);
+            variables.put("offeredUntil", offeredUntil.format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")));
+            sendEmail(to, "A Seat Is Available - " + batchTitle, renderTemplate("static/email/seat-offered.html", variables));
+        } catch (Exception e) {
+            log.error("Error sending seat offer email to {}: {}", to, e.getMessage(), e);
+        }
+    }
+
     private String buildPaymentSuccessEmailContent(Transaction transaction) {
         Map<String, String> variables = new HashMap<>();
         String title = transaction.getCourse() != null ? transaction.getCourse().getTitle() :
@@ -0,0 +1,149 @@
+package com.example.backend.service;
+
+import com.example.backend.config.RabbitMQConfig;
+import com.example.backend.dto.message.EnrollmentAccessMessage;
+import com.example.backend.event.EnrollmentChangedEvent;
+import com.example.backend.repository.BatchEnrollmentRepository;
+import com.example.backend.repository.EnrollmentRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers "is this user enrolled in this course/batch" from per-user sets of enrolled ids,
+ * loaded with one query each on first use. A cache hit grants access without touching the
+ * database; a miss is always confirmed against it, so only revocations can be served stale.
+ * Those are applied locally when an {@link EnrollmentChangedEvent} commits and fanned out to
+ * other nodes over RabbitMQ, and every entry expires after {@code ttl-seconds} regardless.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EnrollmentAccessService {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final BatchEnrollmentRepository batchEnrollmentRepository;
+    private final RabbitTemplate rabbitTemplate;
+
+    private final Map<UUID, AccessSet> cache = new ConcurrentHashMap<>();
+
+    @Value("${app.enrollment-access.ttl-seconds:900}")
+    private long ttlSeconds;
+
+    @Value("${app.enrollment-access.max-entries:50000}")
+    private int maxEntries;
+
+    public boolean isEnrolledInCourse(UUID userId, UUID courseId) {
+        AccessSet access = load(userId);
+        if (access.getCourseIds().contains(courseId)) {
+            return true;
+        }
+        // The enrollment may have been created on another node after this set was loaded
+        boolean enrolled = enrollmentRepository.existsByMemberIdAndCourseId(userId, courseId);
+        if (enrolled) {
+            access.getCourseIds().add(courseId);
+        }
+        return enrolled;
+    }
+
+    public boolean isEnrolledInBatch(UUID userId, UUID batchId) {
+        AccessSet access = load(userId);
+        if (access.getBatchIds().contains(batchId)) {
+            return true;
+        }
+        boolean enrolled = batchEnrollmentRepository.existsByUserIdAndBatchId(userId, batchId);
+        if (enrolled) {
+            access.getBatchIds().add(batchId);
+        }
+        return enrolled;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        EnrollmentAccessMessage message = new EnrollmentAccessMessage(
+                event.getUserId(), event.getCourseId(), event.getBatchId(), event.isEnrolled());
+        apply(message);
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.ENROLLMENT_ACCESS_EXCHANGE_NAME, "", message);
+        } catch (AmqpException e) {
+            // Other nodes fall back to the TTL for this change
+            log.warn("Could not broadcast enrollment change for user {}: {}", event.getUserId(), e.getMessage());
+        }
+    }
+
+    @RabbitListener(queues = "#{enrollmentAccessQueue.name}")
+    public void onRemoteEnrollmentChanged(EnrollmentAccessMessage message) {
+        apply(message);
+    }
+
+    private void apply(EnrollmentAccessMessage message) {
+        AccessSet access = cache.get(message.getUserId());
+        if (access == null) {
+            return;
+        }
+        if (message.getCourseId() != null) {
+            update(access.getCourseIds(), message.getCourseId(), message.isEnrolled());
+        }
+        if (message.getBatchId() != null) {
+            update(access.getBatchIds(), message.getBatchId(), message.isEnrolled());
+        }
+    }
+
+    private static void update(Set<UUID> ids, UUID id, boolean enrolled) {
+        if (enrolled) {
+            ids.add(id);
+        } else {
+            ids.remove(id);
+        }
+    }
+
+    private AccessSet load(UUID userId) {
+        Instant now = Instant.now();
+        AccessSet cached = cache.get(userId);
+        if (cached != null && now.isBefore(cached.getExpiresAt())) {
+            return cached;
+        }
+
+        Set<UUID> courseIds = ConcurrentHashMap.newKeySet();
+        courseIds.addAll(enrollmentRepository.findCourseIdsByMemberId(userId));
+        Set<UUID> batchIds = ConcurrentHashMap.newKeySet();
+        batchIds.addAll(batchEnrollmentRepository.findBatchIdsByUserId(userId));
+        AccessSet loaded = new AccessSet(courseIds, batchIds, now.plus(Duration.ofSeconds(ttlSeconds)));
+
+        if (hasRoom()) {
+            cache.put(userId, loaded);
+        }
+        return loaded;
+    }
+
+    private boolean hasRoom() {
+        if (cache.size() < maxEntries) {
+            return true;
+        }
+        Instant now = Instant.now();
+        cache.values().removeIf(access -> !now.isBefore(access.getExpiresAt()));
+        return cache.size() < maxEntries;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class AccessSet {
+        private final Set<UUID> courseIds;
+        private final Set<UUID> batchIds;
+        private final Instant expiresAt;
+    }
+}
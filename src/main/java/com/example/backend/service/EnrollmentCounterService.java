@@ -0,0 +1,54 @@
+package com.example.backend.service;
+
+import com.example.backend.event.CourseCountersChangedEvent;
+import com.example.backend.repository.CourseCardRepository;
+import com.example.backend.repository.CourseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Rolls course counters up into the catalog. Enrollment writes only adjust
+ * {@code courses.enrollments} atomically, and review writes only move {@code courses.rating}
+ * through the rating trigger; neither touches course_cards nor evicts cached catalog responses,
+ * so a burst of writes holds nothing but the course row lock.
+ * <p>
+ * A frequent roll-up copies changed counters onto the cards in one statement and evicts the
+ * listings and detail pages of just those courses. An hourly reconcile recounts the enrollments
+ * table to repair drift from deletes that bypass {@link EnrollmentService}; the next roll-up
+ * publishes its corrections.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EnrollmentCounterService {
+
+    private final CourseRepository courseRepository;
+    private final CourseCardRepository courseCardRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.enrollment-counter.card-sync-interval-ms:60000}")
+    public void syncCards() {
+        List<String> changed = courseCardRepository.syncCounters();
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new CourseCountersChangedEvent(changed));
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.enrollment-counter.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.enrollment-counter.initial-delay-ms:300000}")
+    public void reconcile() {
+        List<UUID> corrected = courseRepository.reconcileEnrollments();
+        if (!corrected.isEmpty()) {
+            log.info("Reconciled enrollment counters for {} course(s)", corrected.size());
+        }
+    }
+}
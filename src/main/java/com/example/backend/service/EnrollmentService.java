@@ -3,13 +3,14 @@ package com.example.backend.service;
 import com.example.backend.constant.CourseStatus;
 import com.example.backend.constant.EnrollmentMemberType;
 import com.example.backend.constant.EnrollmentRole;
-import com.example.backend.constant.TransactionStatus;
 import com.example.backend.dto.request.enrollment.CurrentEnrollmentRequest;
 import com.example.backend.dto.response.enrollment.CurrentEnrollmentResponse;
 import com.example.backend.dto.response.enrollment.EnrollmentResponse;
 import com.example.backend.dto.response.enrollment.BatchEnrollmentResponse;
+import com.example.backend.dto.response.enrollment.WaitlistPositionResponse;
 import com.example.backend.dto.response.live.EnrolledBatchResponse;
 import com.example.backend.entity.*;
+import com.example.backend.event.EnrollmentChangedEvent;
 import com.example.backend.excecption.DataNotFoundException;
 import com.example.backend.excecption.InvalidRequestDataException;
 import com.example.backend.excecption.ResourceNotFoundException;
@@ -17,23 +18,18 @@ import com.example.backend.mapper.EnrollmentMapper;
 import com.example.backend.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
-import java.util.Comparator;
 import java.util.stream.Collectors;
 
 @Service
@@ -50,7 +46,9 @@ public class EnrollmentService {
     private final BatchRepository batchRepository;
     private final BatchEnrollmentRepository batchEnrollmentRepository;
     private final LiveSessionRepository liveSessionRepository;
-    private final TransactionRepository transactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrollmentAccessService enrollmentAccessService;
+    private final SeatReservationService seatReservationService;
 
     // ... (other methods remain the same)
     public EnrollmentResponse enrollInCourseBySlug(String courseSlug) {
@@ -90,8 +88,8 @@ public class EnrollmentService {
 
         enrollment = enrollmentRepository.save(enrollment);
 
-        course.setEnrollments((course.getEnrollments() != null ? course.getEnrollments() : 0) + 1);
-        courseRepository.save(course);
+        courseRepository.adjustEnrollments(course.getId(), 1);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(student.getId(), course.getId(), null, true));
 
         log.info("Successfully enrolled student {} in course slug {}", studentEmail, courseSlug);
 
@@ -113,6 +111,10 @@ public class EnrollmentService {
             throw new RuntimeException("Student is already enrolled in this batch");
         }
 
+        if (!seatReservationService.take(batch, student.getId())) {
+            throw new InvalidRequestDataException("This batch is full. Join the waitlist to be offered the next free seat.");
+        }
+
         BatchEnrollment be = new BatchEnrollment();
         be.setUser(student);
         be.setBatch(batch);
@@ -120,9 +122,29 @@ public class EnrollmentService {
         be.setEnrolledAt(OffsetDateTime.now());
 
         batchEnrollmentRepository.save(be);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(student.getId(), null, batch.getId(), true));
         log.info("Successfully enrolled student {} in batch {}", studentEmail, batchSlug);
     }
 
+    public WaitlistPositionResponse joinBatchWaitlistBySlug(String batchSlug) {
+        User student = userRepository.findByEmail(getCurrentUserEmail())
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
+        Batch batch = batchRepository.findBySlug(batchSlug)
+                .orElseThrow(() -> new ResourceNotFoundException("Batch not found"));
+        if (batchEnrollmentRepository.existsByUserIdAndBatchId(student.getId(), batch.getId())) {
+            throw new InvalidRequestDataException("Student is already enrolled in this batch");
+        }
+        return seatReservationService.joinWaitlist(batch, student);
+    }
+
+    public void leaveBatchWaitlistBySlug(String batchSlug) {
+        User student = userRepository.findByEmail(getCurrentUserEmail())
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
+        Batch batch = batchRepository.findBySlug(batchSlug)
+                .orElseThrow(() -> new ResourceNotFoundException("Batch not found"));
+        seatReservationService.leaveWaitlist(batch.getId(), student.getId());
+    }
+
     @Transactional(readOnly = true)
     public boolean isPaidBatchBySlug(String batchSlug) {
         Batch batch = batchRepository.findBySlug(batchSlug)
@@ -170,94 +192,12 @@ public class EnrollmentService {
         User student = userRepository.findByEmail(studentEmail)
                 .orElseThrow(() -> new DataNotFoundException("Student not found"));
 
-        int page = currentEnrollmentRequest.getPage();
-        int size = currentEnrollmentRequest.getSize();
-
-        List<CurrentEnrollmentResponse> responses = new ArrayList<>();
-
+        // Sorted by enrollment date in the query itself, so the page carries no Sort for Spring Data to append
+        Pageable pageable = PageRequest.of(currentEnrollmentRequest.getPage(), currentEnrollmentRequest.getSize());
         if (currentEnrollmentRequest.getFilterBy().equals(CurrentEnrollmentRequest.FilterBy.BATCH)) {
-            // Paid batch enrollments from transactions
-            List<Transaction> batchTransactions = transactionRepository
-                    .findByStudentIdAndStatus(student.getId(), TransactionStatus.PAID, Pageable.unpaged())
-                    .getContent()
-                    .stream()
-                    .filter(t -> t.getBatch() != null)
-                    .collect(Collectors.toList());
-
-            Set<UUID> paidBatchIds = batchTransactions.stream()
-                    .map(t -> t.getBatch().getId())
-                    .collect(Collectors.toCollection(HashSet::new));
-
-            for (Transaction tx : batchTransactions) {
-                OffsetDateTime enrollmentDate = tx.getPaidAt() != null ? tx.getPaidAt() : tx.getCreatedAt();
-                responses.add(CurrentEnrollmentResponse.builder()
-                        .enrollmentDate(enrollmentDate)
-                        .courseTitle(tx.getBatch().getTitle())
-                        .price(tx.getAmount())
-                        .build());
-            }
-
-            // Free batch enrollments (no paid transaction)
-            List<BatchEnrollment> batchEnrollments = batchEnrollmentRepository
-                    .findByMemberId(student.getId(), Pageable.unpaged())
-                    .getContent();
-
-            for (BatchEnrollment be : batchEnrollments) {
-                if (!paidBatchIds.contains(be.getBatch().getId())) {
-                    responses.add(CurrentEnrollmentResponse.builder()
-                            .enrollmentDate(be.getEnrolledAt())
-                            .courseTitle(be.getBatch().getTitle())
-                            .price(BigDecimal.ZERO)
-                            .build());
-                }
-            }
-        } else {
-            // Paid course enrollments from transactions
-            List<Transaction> courseTransactions = transactionRepository
-                    .findByStudentIdAndStatus(student.getId(), TransactionStatus.PAID, Pageable.unpaged())
-                    .getContent()
-                    .stream()
-                    .filter(t -> t.getCourse() != null)
-                    .collect(Collectors.toList());
-
-            Set<UUID> paidCourseIds = courseTransactions.stream()
-                    .map(t -> t.getCourse().getId())
-                    .collect(Collectors.toCollection(HashSet::new));
-
-            for (Transaction tx : courseTransactions) {
-                OffsetDateTime enrollmentDate = tx.getPaidAt() != null ? tx.getPaidAt() : tx.getCreatedAt();
-                responses.add(CurrentEnrollmentResponse.builder()
-                        .enrollmentDate(enrollmentDate)
-                        .courseTitle(tx.getCourse().getTitle())
-                        .price(tx.getAmount())
-                        .build());
-            }
-
-            // Free course enrollments (no paid transaction)
-            List<Enrollment> enrollments = enrollmentRepository.findByMemberId(student.getId());
-            for (Enrollment enrollment : enrollments) {
-                if (!paidCourseIds.contains(enrollment.getCourse().getId())) {
-                    responses.add(CurrentEnrollmentResponse.builder()
-                            .enrollmentDate(enrollment.getCreation())
-                            .courseTitle(enrollment.getCourse().getTitle())
-                            .price(BigDecimal.ZERO)
-                            .build());
-                }
-            }
+            return batchEnrollmentRepository.findCurrentBatchEnrollments(student.getId(), pageable);
         }
-
-        // Sort by enrollmentDate desc
-        responses.sort(Comparator.comparing(CurrentEnrollmentResponse::getEnrollmentDate).reversed());
-
-        // Manual paging
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, responses.size());
-        List<CurrentEnrollmentResponse> pageContent = fromIndex >= responses.size()
-                ? new ArrayList<>()
-                : responses.subList(fromIndex, toIndex);
-
-        Pageable pageable = PageRequest.of(page, size, Sort.by("enrollmentDate").descending());
-        return new PageImpl<>(pageContent, pageable, responses.size());
+        return enrollmentRepository.findCurrentCourseEnrollments(student.getId(), pageable);
     }
 
     @Transactional(readOnly = true)
@@ -308,8 +248,8 @@ public class EnrollmentService {
         enrollmentRepository.delete(enrollment);
 
 
-        course.setEnrollments((course.getEnrollments() != null ? course.getEnrollments() : 1) - 1);
-        courseRepository.save(course);
+        courseRepository.adjustEnrollments(course.getId(), -1);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(enrollment.getMember().getId(), course.getId(), null, false));
 
         log.info("Successfully removed enrollment {}", enrollmentId);
     }
@@ -328,7 +268,7 @@ public class EnrollmentService {
         boolean isInstructor = batch.getInstructors().stream()
                 .anyMatch(bi -> bi.getInstructor().getId().equals(currentUser.getId()));
 
-        boolean isEnrolledStudent = batchEnrollmentRepository.existsByUserIdAndBatchId(currentUser.getId(), batchId);
+        boolean isEnrolledStudent = enrollmentAccessService.isEnrolledInBatch(currentUser.getId(), batchId);
 
         if (!isInstructor && !isEnrolledStudent) {
             throw new RuntimeException("You are not authorized to view enrollments for this batch");
@@ -346,7 +286,7 @@ public class EnrollmentService {
 
     @Transactional(readOnly = true)
     public boolean isEnrolled(UUID studentId, UUID courseId) {
-        return enrollmentRepository.existsByMemberIdAndCourseId(studentId, courseId);
+        return enrollmentAccessService.isEnrolledInCourse(studentId, courseId);
     }
 @Transactional(readOnly = true)
     public boolean isUserAuthorizedForSession(String email, UUID sessionId) {
@@ -363,7 +303,7 @@ public class EnrollmentService {
         UUID batchId = batch.getId();
 
         // Check 1: Is the user an enrolled student in the batch?
-        boolean isEnrolledStudent = batchEnrollmentRepository.existsByUserIdAndBatchId(user.getId(), batchId);
+        boolean isEnrolledStudent = enrollmentAccessService.isEnrolledInBatch(user.getId(), batchId);
         if (isEnrolledStudent) {
             return true;
         }
@@ -379,6 +319,18 @@ public class EnrollmentService {
         return false;
     }
 
+    @Transactional(readOnly = true)
+    public boolean isUserAuthorizedForLessonComments(String email, UUID lessonId) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
+
+        UUID courseId = lessonRepository.findCourseIdById(lessonId)
+                .orElseThrow(() -> new ResourceNotFoundException("Lesson not found with ID: " + lessonId));
+
+        // Same rule as reading the comments over HTTP
+        return enrollmentAccessService.isEnrolledInCourse(user.getId(), courseId);
+    }
+
     @Transactional(readOnly = true)
     public boolean isPaidCourseBySlug(String courseSlug) {
         Course course = courseRepository.findBySlug(courseSlug)
@@ -413,12 +365,47 @@ public class EnrollmentService {
         enrollmentRepository.save(enrollment);
 
 
-        course.setEnrollments((course.getEnrollments() != null ? course.getEnrollments() : 0) + 1);
-        courseRepository.save(course);
+        courseRepository.adjustEnrollments(course.getId(), 1);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(studentId, course.getId(), null, true));
 
         log.info("Successfully created enrollment for student {} in course {}", studentId, courseId);
     }
 
+    /**
+     * Enrolls a student in a batch they have paid for, taking the seat held during checkout.
+     * A paid student is enrolled even if the hold lapsed and the batch filled up meanwhile.
+     */
+    @Transactional
+    public void createBatchEnrollment(UUID studentId, UUID batchId) {
+        log.info("Creating batch enrollment for student {} in batch {}", studentId, batchId);
+
+        User student = userRepository.findById(studentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
+
+        Batch batch = batchRepository.findById(batchId)
+                .orElseThrow(() -> new ResourceNotFoundException("Batch not found"));
+
+        if (batchEnrollmentRepository.existsByUserIdAndBatchId(studentId, batchId)) {
+            log.warn("Student {} is already enrolled in batch {}", studentId, batchId);
+            return;
+        }
+
+        if (!seatReservationService.take(batch, studentId)) {
+            log.warn("Batch {} is full; enrolling paid student {} over capacity", batchId, studentId);
+        }
+
+        BatchEnrollment be = new BatchEnrollment();
+        be.setUser(student);
+        be.setBatch(batch);
+        be.setMemberType("STUDENT");
+        be.setEnrolledAt(OffsetDateTime.now());
+
+        batchEnrollmentRepository.save(be);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(studentId, null, batchId, true));
+
+        log.info("Successfully created batch enrollment for student {} in batch {}", studentId, batchId);
+    }
+
     private String getCurrentUserEmail() {
         return SecurityContextHolder.getContext().getAuthentication().getName();
     }
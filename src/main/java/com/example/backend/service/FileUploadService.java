@@ -26,6 +26,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -37,6 +38,7 @@ public class FileUploadService {
     private final RabbitTemplate rabbitTemplate;
     private final MinioClient minioClient;
     private final UserRepository userRepository;
+    private final PresignedUrlService presignedUrlService;
 
     @Value("${minio.bucket.name}")
     private String bucketName;
@@ -61,23 +63,9 @@ public class FileUploadService {
     }
 
     public String generatePresignedGetUrl(String objectName) {
-        try {
-            return minioClient.getPresignedObjectUrl(
-                    GetPresignedObjectUrlArgs.builder()
-                            .method(Method.GET)
-                            .bucket(bucketName)
-                            .object(objectName)
-                            .expiry(1, TimeUnit.HOURS)
-                            .build());
-        } catch (Exception e) {
-            log.error("Error generating presigned GET URL for object {}: {}", objectName, e.getMessage());
-            return null;
-        }
+        return presignedUrlService.signGetUrl(objectName, Duration.ofHours(1));
     }
 
-
-
-
     @Transactional
     public void uploadAndQueueForTranscoding(TranscodeRequest transcodeRequest) {
         MultipartFile file = transcodeRequest.getFile();
@@ -0,0 +1,218 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.response.lesson.HlsPlaylistResponse;
+import com.example.backend.excecption.InternalServerError;
+import com.example.backend.excecption.InvalidRequestDataException;
+import com.example.backend.excecption.ResourceNotFoundException;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.MinioClient;
+import io.minio.errors.ErrorResponseException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves HLS playlists for transcoded lesson videos stored under {@code lessons/{lessonId}/hls/}.
+ * The master playlist is passed through as-is; variant playlists get their segment URIs replaced
+ * with presigned URLs from {@link PresignedUrlService}. Both are cached until shortly before those
+ * signatures expire. A playlist is loaded and signed by the first caller outside any map lock;
+ * concurrent viewers of the same playlist wait on that caller's future instead of loading it again.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HlsPlaybackService {
+
+    public static final String PLAYLIST_MEDIA_TYPE = "application/vnd.apple.mpegurl";
+
+    private static final String HLS_PREFIX = "lessons/%s/hls/";
+    private static final String MASTER_PLAYLIST = "master.m3u8";
+    private static final Pattern RENDITION_NAME = Pattern.compile("[A-Za-z0-9_-]+");
+    private static final Pattern PLAYLIST_NAME = Pattern.compile("[A-Za-z0-9_-]+\\.m3u8");
+    private static final Pattern URI_ATTRIBUTE = Pattern.compile("URI=\"([^\"]+)\"");
+
+    private final MinioClient minioClient;
+    private final LessonService lessonService;
+    private final PresignedUrlService presignedUrlService;
+
+    private final Map<String, CompletableFuture<HlsPlaylistResponse>> playlistCache = new ConcurrentHashMap<>();
+
+    @Value("${minio.bucket.name}")
+    private String bucketName;
+
+    @Value("${app.hls.segment-url-expiry-minutes:60}")
+    private int segmentUrlExpiryMinutes;
+
+    @Value("${app.hls.refresh-margin-minutes:5}")
+    private int refreshMarginMinutes;
+
+    public HlsPlaylistResponse getMasterPlaylist(String lessonSlug) {
+        UUID lessonId = lessonService.getViewableLessonId(lessonSlug);
+        return getCachedPlaylist(hlsPrefix(lessonId) + MASTER_PLAYLIST,
+                objectName -> new HlsPlaylistResponse(readObject(objectName), Instant.now().plus(cacheTtl())));
+    }
+
+    public HlsPlaylistResponse getVariantPlaylist(String lessonSlug, String rendition, String playlist) {
+        if (!RENDITION_NAME.matcher(rendition).matches() || !PLAYLIST_NAME.matcher(playlist).matches()) {
+            throw new InvalidRequestDataException("Invalid HLS playlist path");
+        }
+
+        UUID lessonId = lessonService.getViewableLessonId(lessonSlug);
+        String renditionPrefix = hlsPrefix(lessonId) + rendition + "/";
+        return getCachedPlaylist(renditionPrefix + playlist,
+                objectName -> signVariantPlaylist(readObject(objectName), renditionPrefix));
+    }
+
+    @Scheduled(fixedDelayString = "${app.hls.cache-purge-interval-ms:600000}")
+    public void purgeExpiredPlaylists() {
+        Instant now = Instant.now();
+        playlistCache.values().removeIf(playlist -> !isFresh(playlist, now));
+    }
+
+    private HlsPlaylistResponse getCachedPlaylist(String objectName, Function<String, HlsPlaylistResponse> loader) {
+        while (true) {
+            CompletableFuture<HlsPlaylistResponse> cached = playlistCache.get(objectName);
+            if (cached != null && isFresh(cached, Instant.now())) {
+                return await(cached);
+            }
+
+            CompletableFuture<HlsPlaylistResponse> loading = new CompletableFuture<>();
+            boolean claimed = cached == null
+                    ? playlistCache.putIfAbsent(objectName, loading) == null
+                    : playlistCache.replace(objectName, cached, loading);
+            if (!claimed) {
+                // Another caller started loading it first; wait for that one
+                continue;
+            }
+            try {
+                HlsPlaylistResponse loaded = loader.apply(objectName);
+                loading.complete(loaded);
+                return loaded;
+            } catch (RuntimeException e) {
+                // Not cached, so the next request retries; callers already waiting get the same error
+                playlistCache.remove(objectName, loading);
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * A playlist still being loaded counts as fresh, so callers wait for it rather than load it again.
+     */
+    private static boolean isFresh(CompletableFuture<HlsPlaylistResponse> playlist, Instant now) {
+        if (!playlist.isDone()) {
+            return true;
+        }
+        return !playlist.isCompletedExceptionally() && now.isBefore(playlist.join().getExpiresAt());
+    }
+
+    private static HlsPlaylistResponse await(CompletableFuture<HlsPlaylistResponse> playlist) {
+        try {
+            return playlist.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private HlsPlaylistResponse signVariantPlaylist(String playlist, String renditionPrefix) {
+        String[] lines = playlist.split("\\r?\\n");
+
+        Set<String> objectNames = new LinkedHashSet<>();
+        for (String line : lines) {
+            String uri = mediaUri(line);
+            if (uri != null && isRelative(uri)) {
+                objectNames.add(renditionPrefix + uri);
+            }
+        }
+        Map<String, PresignedUrlService.PresignedUrl> signedUrls =
+                presignedUrlService.signGetUrls(objectNames, Duration.ofMinutes(segmentUrlExpiryMinutes));
+        if (signedUrls.size() < objectNames.size()) {
+            throw new InternalServerError("Could not sign HLS segments.", "Presigning failed for " + renditionPrefix);
+        }
+
+        // The manifest must not outlive the earliest segment signature it embeds
+        Instant expiresAt = Instant.now().plus(cacheTtl());
+        StringBuilder signed = new StringBuilder(playlist.length() + signedUrls.size() * 256);
+        for (String line : lines) {
+            String uri = mediaUri(line);
+            if (uri == null || !isRelative(uri)) {
+                signed.append(line);
+            } else {
+                PresignedUrlService.PresignedUrl signedUrl = signedUrls.get(renditionPrefix + uri);
+                Instant segmentDeadline = signedUrl.getExpiresAt().minus(Duration.ofMinutes(refreshMarginMinutes));
+                if (segmentDeadline.isBefore(expiresAt)) {
+                    expiresAt = segmentDeadline;
+                }
+                signed.append(line.startsWith("#")
+                        ? line.replace("URI=\"" + uri + "\"", "URI=\"" + signedUrl.getUrl() + "\"")
+                        : signedUrl.getUrl());
+            }
+            signed.append('\n');
+        }
+        return new HlsPlaylistResponse(signed.toString(), expiresAt);
+    }
+
+    /**
+     * Returns the media URI referenced by a playlist line: the line itself for segments,
+     * or the URI attribute of tags such as EXT-X-MAP and EXT-X-KEY.
+     */
+    private String mediaUri(String line) {
+        String trimmed = line.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        if (!trimmed.startsWith("#")) {
+            return trimmed;
+        }
+        Matcher matcher = URI_ATTRIBUTE.matcher(trimmed);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private boolean isRelative(String uri) {
+        return !uri.contains("://") && !uri.startsWith("/") && !uri.contains("..");
+    }
+
+    private String readObject(String objectName) {
+        try (GetObjectResponse response = minioClient.getObject(
+                GetObjectArgs.builder()
+                        .bucket(bucketName)
+                        .object(objectName)
+                        .build())) {
+            return new String(response.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                throw new ResourceNotFoundException("HLS playlist not found for this lesson.");
+            }
+            throw new InternalServerError("Could not read HLS playlist.", e.getMessage());
+        } catch (Exception e) {
+            log.error("Error reading HLS playlist {}: {}", objectName, e.getMessage());
+            throw new InternalServerError("Could not read HLS playlist.", e.getMessage());
+        }
+    }
+
+    private Duration cacheTtl() {
+        return Duration.ofMinutes(Math.max(1, segmentUrlExpiryMinutes - refreshMarginMinutes));
+    }
+
+    private String hlsPrefix(UUID lessonId) {
+        return String.format(HLS_PREFIX, lessonId);
+    }
+}
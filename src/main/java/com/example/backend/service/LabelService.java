@@ -7,8 +7,10 @@ import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -56,4 +58,16 @@ public class LabelService {
         }
         return labelRepository.findByEntityIdAndEntityType(entityId, entityType);
     }
+
+    /**
+     * Loads the labels of all given entities in one query, grouped by entity id.
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, List<Label>> getLabelsByEntityIds(Collection<UUID> entityIds, EntityType entityType) {
+        if (entityIds == null || entityIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return labelRepository.findByEntityIdInAndEntityType(entityIds, entityType).stream()
+                .collect(Collectors.groupingBy(Label::getEntityId));
+    }
 }
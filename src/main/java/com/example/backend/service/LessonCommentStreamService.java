@@ -0,0 +1,89 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.message.LessonCommentMessage;
+import com.example.backend.entity.Comment;
+import com.example.backend.event.CommentChangedEvent;
+import com.example.backend.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes committed comment changes to /topic/lesson/{lessonId}/comments so viewers never poll.
+ * Creates, edits and deletes go out immediately. Vote counts are coalesced per comment and sent
+ * at most once per {@code vote-interval-ms}, so a burst of votes on a trending comment costs
+ * subscribers one message. The totals sent are re-read from the comment at flush time: vote
+ * events arrive in the order their commits finish, not the order the counters moved, so the last
+ * event received may carry an older total.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LessonCommentStreamService {
+
+    public static final String TOPIC_PREFIX = "/topic/lesson/";
+    public static final String TOPIC_SUFFIX = "/comments";
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final CommentRepository commentRepository;
+
+    private final Map<UUID, LessonCommentMessage> pendingVotes = new ConcurrentHashMap<>();
+
+    public static String topic(UUID lessonId) {
+        return TOPIC_PREFIX + lessonId + TOPIC_SUFFIX;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        LessonCommentMessage message = event.getMessage();
+        if (message.getType() == LessonCommentMessage.MessageType.VOTES) {
+            pendingVotes.put(message.getCommentId(), message);
+            return;
+        }
+        if (message.getType() == LessonCommentMessage.MessageType.DELETED) {
+            pendingVotes.remove(message.getCommentId());
+        }
+        send(message);
+    }
+
+    @Scheduled(fixedDelayString = "${app.comment-stream.vote-interval-ms:1000}")
+    public void flushVotes() {
+        if (pendingVotes.isEmpty()) {
+            return;
+        }
+        Map<UUID, LessonCommentMessage> due = new HashMap<>();
+        for (UUID commentId : pendingVotes.keySet()) {
+            LessonCommentMessage message = pendingVotes.remove(commentId);
+            if (message != null) {
+                due.put(commentId, message);
+            }
+        }
+
+        // Every vote whose event was taken above has committed, so this read includes it
+        for (Comment comment : commentRepository.findAllById(due.keySet())) {
+            if (Boolean.TRUE.equals(comment.getIsDeleted())) {
+                continue;
+            }
+            LessonCommentMessage message = due.get(comment.getId());
+            message.setUpvotes(comment.getUpvotes());
+            message.setDownvotes(comment.getDownvotes());
+            send(message);
+        }
+    }
+
+    private void send(LessonCommentMessage message) {
+        try {
+            messagingTemplate.convertAndSend(topic(message.getLessonId()), message);
+        } catch (Exception e) {
+            log.warn("Failed to push {} for comment {} on lesson {}", message.getType(), message.getCommentId(), message.getLessonId(), e);
+        }
+    }
+}
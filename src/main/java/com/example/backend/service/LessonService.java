@@ -1,5 +1,7 @@
 package com.example.backend.service;
 
+import com.example.backend.constant.EntityType;
+import com.example.backend.constant.SlugScope;
 import com.example.backend.dto.model.LessonDto;
 import com.example.backend.dto.request.course.LessonRequest;
 import com.example.backend.dto.model.LessonPublicDto;
@@ -7,29 +9,36 @@ import com.example.backend.entity.Chapter;
 import com.example.backend.entity.Course;
 import com.example.backend.entity.Lesson;
 import com.example.backend.entity.User;
+import com.example.backend.event.CatalogChangedEvent;
+import com.example.backend.event.CourseOutlineChangedEvent;
+import com.example.backend.event.SlugChangedEvent;
 import com.example.backend.excecption.ForbiddenException;
 import com.example.backend.excecption.ResourceNotFoundException;
 import com.example.backend.mapper.LessonMapper;
 import com.example.backend.repository.*;
+import com.example.backend.service.CourseOutlineService.CourseOutline;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
-import static com.example.backend.util.SlugConverter.toSlug;
 
 @Service
 @RequiredArgsConstructor
 public class LessonService {
 
     private final LessonRepository lessonRepository;
+    private final SlugRegistryService slugRegistryService;
     private final ChapterRepository chapterRepository;
     private final UserRepository userRepository;
     private final LessonMapper lessonMapper;
-    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentAccessService enrollmentAccessService;
+    private final CourseOutlineService courseOutlineService;
     private final QuizRepository quizRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
 
@@ -39,7 +48,20 @@ public class LessonService {
                 .orElseThrow(() -> new ResourceNotFoundException("Lesson not found with slug: " + slug));
 
         checkLessonViewPermission(lesson.getCourse());
-        return lessonMapper.toDto(lesson);
+        LessonDto dto = lessonMapper.toDto(lesson);
+        CourseOutline outline = courseOutlineService.getOutline(lesson.getCourse().getId());
+        outline.previous(lesson.getId()).ifPresent(previous -> dto.setPreviousLessonSlug(previous.getSlug()));
+        outline.next(lesson.getId()).ifPresent(next -> dto.setNextLessonSlug(next.getSlug()));
+        return dto;
+    }
+
+    @Transactional(readOnly = true)
+    public UUID getViewableLessonId(String slug) {
+        Lesson lesson = lessonRepository.findBySlug(slug)
+                .orElseThrow(() -> new ResourceNotFoundException("Lesson not found with slug: " + slug));
+
+        checkLessonViewPermission(lesson.getCourse());
+        return lesson.getId();
     }
 
     @Transactional(readOnly = true)
@@ -57,7 +79,7 @@ public class LessonService {
         Lesson lesson = lessonMapper.toEntity(request);
         lesson.setChapter(chapter);
         lesson.setCourse(chapter.getCourse());
-        lesson.setSlug(generateUniqueSlug(request.getTitle()));
+        lesson.setSlug(slugRegistryService.allocate(SlugScope.LESSON, request.getTitle()));
         if (request.getQuizId() != null) {
             lesson.setQuiz(quizRepository.findById(request.getQuizId())
                     .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id: " + request.getQuizId())));
@@ -66,6 +88,8 @@ public class LessonService {
         lesson.setPosition(currentLessonCount + 1);
 
         Lesson savedLesson = lessonRepository.save(lesson);
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.COURSE, chapter.getCourse().getId()));
+        eventPublisher.publishEvent(new CourseOutlineChangedEvent(chapter.getCourse().getId()));
         return lessonMapper.toDto(savedLesson);
     }
 
@@ -75,7 +99,8 @@ public class LessonService {
         checkCourseOwnership(lesson.getCourse());
 
         if (!lesson.getTitle().equals(request.getTitle())) {
-            lesson.setSlug(generateUniqueSlug(request.getTitle()));
+            eventPublisher.publishEvent(new SlugChangedEvent(SlugScope.LESSON, lesson.getSlug()));
+            lesson.setSlug(slugRegistryService.allocate(SlugScope.LESSON, request.getTitle()));
         }
 
         Lesson lessonConvert = lessonMapper.updateEntityFromRequest(request, lesson);
@@ -84,6 +109,8 @@ public class LessonService {
                     .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id: " + request.getQuizId())));
         }
         Lesson updatedLesson = lessonRepository.save(lessonConvert);
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.COURSE, lesson.getCourse().getId()));
+        eventPublisher.publishEvent(new CourseOutlineChangedEvent(lesson.getCourse().getId()));
         return lessonMapper.toDto(updatedLesson);
     }
 
@@ -101,18 +128,11 @@ public class LessonService {
         checkCourseOwnership(chapter.getCourse());
 
         chapter.getLessons().remove(lessonToDelete);
+        eventPublisher.publishEvent(new SlugChangedEvent(SlugScope.LESSON, lessonToDelete.getSlug()));
+        eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.COURSE, chapter.getCourse().getId()));
+        eventPublisher.publishEvent(new CourseOutlineChangedEvent(chapter.getCourse().getId()));
     }
 
-    private String generateUniqueSlug(String title) {
-        String baseSlug = toSlug(title);
-        String slug = baseSlug;
-        int counter = 1;
-        while (lessonRepository.existsBySlug(slug)) {
-            slug = baseSlug + "-" + counter;
-            counter++;
-        }
-        return slug;
-    }
 
     private User getCurrentUser() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -140,7 +160,7 @@ public class LessonService {
             return;
         }
 
-        boolean isEnrolled = enrollmentRepository.existsByMemberIdAndCourseId(currentUser.getId(), course.getId());
+        boolean isEnrolled = enrollmentAccessService.isEnrolledInCourse(currentUser.getId(), course.getId());
 
         if (!isEnrolled) {
             throw new ForbiddenException("You must be enrolled in the course to view this lesson.");
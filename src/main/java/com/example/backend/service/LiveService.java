@@ -10,7 +10,6 @@ import com.example.backend.entity.User;
 import com.example.backend.excecption.DataNotFoundException;
 import com.example.backend.excecption.ForbiddenException;
 import com.example.backend.mapper.LiveSessionMapper;
-import com.example.backend.repository.BatchEnrollmentRepository;
 import com.example.backend.repository.BatchRepository;
 import com.example.backend.repository.LiveSessionRepository;
 import com.example.backend.repository.ParticipantFeedRepository;
@@ -22,9 +21,11 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Timer;
@@ -38,6 +39,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class LiveService {
     
+    private static final Duration RECORDING_URL_EXPIRY = Duration.ofHours(2);
+    
     private final JanusService janusService;
     private final LiveSessionRepository liveSessionRepository;
     private final BatchRepository batchRepository;
@@ -45,7 +48,8 @@ public class LiveService {
     private final LiveSessionMapper liveSessionMapper;
     private final ParticipantFeedRepository participantFeedRepository;
     private final ParticipantSessionRepository participantSessionRepository;
-    private final BatchEnrollmentRepository batchEnrollmentRepository;
+    private final EnrollmentAccessService enrollmentAccessService;
+    private final PresignedUrlService presignedUrlService;
     
     private final Random random = new Random();
 
@@ -966,7 +970,7 @@ public class LiveService {
         // Check if user is enrolled in batch or is an instructor
         boolean isInstructor = batch.getInstructors().stream()
                 .anyMatch(bi -> bi.getInstructor().getId().equals(currentUser.getId()));
-        boolean isEnrolled = batchEnrollmentRepository.existsByUserIdAndBatchId(currentUser.getId(), batchId);
+        boolean isEnrolled = enrollmentAccessService.isEnrolledInBatch(currentUser.getId(), batchId);
         
         if (!isInstructor && !isEnrolled) {
             throw new ForbiddenException("You are not authorized to view recordings for this batch");
@@ -974,6 +978,12 @@ public class LiveService {
         
         // Get all completed recordings for this batch
         List<LiveSession> completedSessions = liveSessionRepository.findCompletedRecordingsByBatchId(batchId);
+        Map<String, PresignedUrlService.PresignedUrl> videoUrls = presignedUrlService.signGetUrls(
+                completedSessions.stream()
+                        .map(LiveSession::getFinalVideoObjectName)
+                        .filter(Objects::nonNull)
+                        .toList(),
+                RECORDING_URL_EXPIRY);
         
         List<BatchRecordingsResponse.RecordingInfo> recordings = completedSessions.stream()
                 .map(session -> BatchRecordingsResponse.RecordingInfo.builder()
@@ -982,6 +992,9 @@ public class LiveService {
                         .title(session.getTitle())
                         .description(session.getDescription())
                         .objectName(session.getFinalVideoObjectName())
+                        .videoUrl(Optional.ofNullable(videoUrls.get(session.getFinalVideoObjectName()))
+                                .map(PresignedUrlService.PresignedUrl::getUrl)
+                                .orElse(null))
                         .durationSeconds(session.getRecordingDuration())
                         .recordedAt(session.getStartedAt())
                         .instructorName(session.getInstructor() != null 
@@ -2,13 +2,17 @@ package com.example.backend.service;
 
 import com.example.backend.constant.TransactionStatus;
 import com.example.backend.dto.response.payment.PaymentResponse;
+import com.example.backend.dto.response.pagination.CursorPageResponse;
 import com.example.backend.dto.response.payment.TransactionListResponse;
 import com.example.backend.entity.*;
 import com.example.backend.repository.CourseRepository;
 import com.example.backend.repository.BatchRepository;
 import com.example.backend.repository.PayOSConfigRepository;
+import com.example.backend.repository.KeysetSpecification;
 import com.example.backend.repository.TransactionRepository;
+import com.example.backend.repository.TransactionSpecification;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.util.KeysetCursor;
 import com.example.backend.excecption.DataNotFoundException;
 import com.example.backend.excecption.InvalidRequestDataException;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,6 +24,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,6 +51,7 @@ public class PaymentService {
     private final EmailService emailService;
     private final ObjectMapper objectMapper;
     private final BatchRepository batchRepository;
+    private final SeatReservationService seatReservationService;
 
     @Value("${app.base-url:http://localhost:8080}")
     private String baseUrl;
@@ -181,6 +187,11 @@ public class PaymentService {
             throw new InvalidRequestDataException("Batch price is not set or invalid");
         }
 
+        // Hold a seat for the checkout; a failed request rolls the hold back with the transaction
+        if (!seatReservationService.hold(batch, student.getId())) {
+            throw new InvalidRequestDataException("This batch is full. Join the waitlist to be offered the next free seat.");
+        }
+
         // Get any instructor of batch (mirror course logic)
         User instructor = batch.getInstructors().stream()
                 .findFirst()
@@ -282,13 +293,16 @@ public class PaymentService {
                 if (transaction.getCourse() != null) {
                     enrollmentService.createEnrollment(transaction.getStudent().getId(), transaction.getCourse().getId());
                 } else if (transaction.getBatch() != null) {
-                    // Batch enrollment after payment success
-                    enrollmentService.enrollInBatchBySlug(transaction.getBatch().getSlug());
+                    // Batch enrollment after payment success, converting the seat held at checkout
+                    enrollmentService.createBatchEnrollment(transaction.getStudent().getId(), transaction.getBatch().getId());
                 }
                 sendPaymentSuccessNotifications(transaction);
             } else {
                 transaction.setStatus(TransactionStatus.FAILED);
                 transaction.setFailedAt(OffsetDateTime.now());
+                if (transaction.getBatch() != null) {
+                    seatReservationService.release(transaction.getBatch().getId(), transaction.getStudent().getId());
+                }
                 sendPaymentFailureNotification(transaction);
             }
 
@@ -344,6 +358,31 @@ public class PaymentService {
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TransactionListResponse.TransactionSummaryResponse> scrollTransactions(String userType, String status, UUID userId, String cursor, int size) {
+        TransactionStatus transactionStatus = status != null ? TransactionStatus.valueOf(status.toUpperCase()) : null;
+
+        Specification<Transaction> spec = Specification.where(TransactionSpecification.hasStatus(transactionStatus));
+        if ("student".equals(userType)) {
+            spec = spec.and(TransactionSpecification.hasStudent(userId));
+        } else if ("instructor".equals(userType)) {
+            spec = spec.and(TransactionSpecification.hasInstructor(userId));
+        }
+        if (cursor != null) {
+            KeysetCursor.Position<OffsetDateTime> after = KeysetCursor.decode(cursor, OffsetDateTime::parse);
+            spec = spec.and(KeysetSpecification.before("createdAt", after.getTimestamp(), after.getId()));
+        }
+
+        int limit = CursorPageResponse.clampSize(size);
+        List<Transaction> transactions = transactionRepository.findBy(spec, query -> query
+                .sortBy(KeysetSpecification.newestFirst("createdAt"))
+                .limit(limit + 1)
+                .all());
+        return CursorPageResponse.of(transactions, limit,
+                page -> page.stream().map(this::mapToSummaryResponse).toList(),
+                transaction -> KeysetCursor.encode(transaction.getCreatedAt(), transaction.getId()));
+    }
+
 
     private PaymentResponse mapToResponse(Transaction transaction) {
         return PaymentResponse.builder()
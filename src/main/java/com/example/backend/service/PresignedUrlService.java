@@ -0,0 +1,120 @@
+package com.example.backend.service;
+
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioClient;
+import io.minio.http.Method;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches presigned GET URLs per object and expiry, so repeated reads of the same object
+ * don't re-sign on every request. A cached URL is reused until less than
+ * {@code refresh-fraction} of its lifetime remains, then it is signed again.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PresignedUrlService {
+
+    private final MinioClient minioClient;
+
+    private final Map<String, PresignedUrl> cache = new ConcurrentHashMap<>();
+
+    @Value("${minio.bucket.name}")
+    private String bucketName;
+
+    @Value("${app.storage.presign.refresh-fraction:0.5}")
+    private double refreshFraction;
+
+    @Value("${app.storage.presign.max-entries:50000}")
+    private int maxEntries;
+
+    /**
+     * Returns a GET URL for the object, or null if it could not be signed.
+     */
+    public String signGetUrl(String objectName, Duration expiry) {
+        PresignedUrl presignedUrl = getOrSign(objectName, expiry, Instant.now());
+        return presignedUrl != null ? presignedUrl.getUrl() : null;
+    }
+
+    /**
+     * Signs many objects in one call for list endpoints. Objects that fail to sign are left out of the result.
+     */
+    public Map<String, PresignedUrl> signGetUrls(Collection<String> objectNames, Duration expiry) {
+        Instant now = Instant.now();
+        Map<String, PresignedUrl> result = new HashMap<>();
+        for (String objectName : new LinkedHashSet<>(objectNames)) {
+            if (objectName == null || objectName.isEmpty()) {
+                continue;
+            }
+            PresignedUrl presignedUrl = getOrSign(objectName, expiry, now);
+            if (presignedUrl != null) {
+                result.put(objectName, presignedUrl);
+            }
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${app.storage.presign.purge-interval-ms:300000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        cache.values().removeIf(presignedUrl -> !now.isBefore(presignedUrl.getRefreshAt()));
+    }
+
+    private PresignedUrl getOrSign(String objectName, Duration expiry, Instant now) {
+        String key = objectName + "|" + expiry.getSeconds();
+        PresignedUrl cached = cache.get(key);
+        if (cached != null && now.isBefore(cached.getRefreshAt())) {
+            return cached;
+        }
+
+        PresignedUrl signed = sign(objectName, expiry, now);
+        if (signed == null) {
+            return null;
+        }
+        if (cache.size() >= maxEntries) {
+            purgeExpired();
+        }
+        if (cache.size() < maxEntries) {
+            cache.put(key, signed);
+        }
+        return signed;
+    }
+
+    private PresignedUrl sign(String objectName, Duration expiry, Instant now) {
+        try {
+            String url = minioClient.getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(Method.GET)
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .expiry((int) expiry.getSeconds(), TimeUnit.SECONDS)
+                            .build());
+            Instant expiresAt = now.plus(expiry);
+            Instant refreshAt = now.plusMillis((long) (expiry.toMillis() * (1 - refreshFraction)));
+            return new PresignedUrl(url, expiresAt, refreshAt);
+        } catch (Exception e) {
+            log.error("Error generating presigned GET URL for object {}: {}", objectName, e.getMessage());
+            return null;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PresignedUrl {
+        private final String url;
+        private final Instant expiresAt;
+        private final Instant refreshAt;
+    }
+}
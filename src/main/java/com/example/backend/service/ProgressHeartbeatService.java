@@ -0,0 +1,201 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.request.progress.LessonHeartbeatRequest;
+import com.example.backend.excecption.ForbiddenException;
+import com.example.backend.excecption.ResourceNotFoundException;
+import com.example.backend.repository.LessonRepository;
+import com.example.backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for video heartbeats. Each heartbeat is merged into the pending value for
+ * its (user, lesson): the latest position wins and watch time accumulates. A scheduled flush writes
+ * all pending values to course_progress in JDBC batches, so database writes scale with the number
+ * of distinct viewers per interval rather than with the heartbeat rate.
+ * <p>
+ * A heartbeat is only buffered for a lesson the caller is enrolled in. That check hits the database
+ * once per (user, lesson) and is then remembered for {@code access-ttl-seconds}, so steady playback
+ * does not touch the database on the request path and made-up lesson ids never take buffer space.
+ * The flush still resolves the user by email and drops rows whose enrollment has since gone away.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProgressHeartbeatService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    // Never downgrades a completed lesson, and leaves "modified" alone since it dates the completion
+    private static final String UPSERT_PROGRESS =
+            "INSERT INTO course_progress (member_id, lesson_id, chapter_id, course_id, status, " +
+            "    last_position_seconds, watch_time_seconds, last_watched_at) " +
+            "SELECT u.id, l.id, l.chapter_id, l.course_id, 'PARTIALLY_COMPLETE', :position, :watched, :watchedAt " +
+            "FROM users u JOIN lessons l ON l.id = :lessonId " +
+            "WHERE u.email = :email " +
+            "  AND EXISTS (SELECT 1 FROM enrollments e WHERE e.member_id = u.id AND e.course_id = l.course_id) " +
+            "ON CONFLICT (member_id, lesson_id) DO UPDATE SET " +
+            "    status = CASE WHEN course_progress.status = 'COMPLETE' THEN course_progress.status ELSE 'PARTIALLY_COMPLETE' END, " +
+            "    last_position_seconds = EXCLUDED.last_position_seconds, " +
+            "    watch_time_seconds = course_progress.watch_time_seconds + EXCLUDED.watch_time_seconds, " +
+            "    last_watched_at = EXCLUDED.last_watched_at";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final LessonRepository lessonRepository;
+    private final EnrollmentAccessService enrollmentAccessService;
+
+    private final Map<String, PendingHeartbeat> buffer = new ConcurrentHashMap<>();
+    // (user, lesson) pairs whose enrollment was confirmed, with when the confirmation lapses
+    private final Map<String, Instant> verified = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    @Value("${app.progress.heartbeat.max-watch-seconds:60}")
+    private int maxWatchSeconds;
+
+    @Value("${app.progress.heartbeat.max-entries:200000}")
+    private int maxEntries;
+
+    @Value("${app.progress.heartbeat.access-ttl-seconds:900}")
+    private long accessTtlSeconds;
+
+    /**
+     * Buffers a heartbeat. Returns false when the buffer is full and the heartbeat was dropped.
+     */
+    public boolean record(String email, UUID lessonId, LessonHeartbeatRequest request) {
+        String key = email + "|" + lessonId;
+        verifyAccess(email, lessonId, key);
+        if (buffer.size() >= maxEntries && !buffer.containsKey(key)) {
+            return false;
+        }
+        // A client can't claim more watch time per heartbeat than the heartbeat cadence allows
+        int watched = Math.min(request.getWatchedSeconds() != null ? request.getWatchedSeconds() : 0, maxWatchSeconds);
+        PendingHeartbeat heartbeat = new PendingHeartbeat(email, lessonId, request.getPositionSeconds(), watched, Instant.now());
+        buffer.merge(key, heartbeat, PendingHeartbeat::coalesce);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.progress.heartbeat.flush-interval-ms:10000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            List<PendingHeartbeat> pending = drain();
+            for (int from = 0; from < pending.size(); from += CHUNK_SIZE) {
+                List<PendingHeartbeat> chunk = pending.subList(from, Math.min(from + CHUNK_SIZE, pending.size()));
+                try {
+                    jdbcTemplate.batchUpdate(UPSERT_PROGRESS, chunk.stream()
+                            .map(this::toParameters)
+                            .toArray(MapSqlParameterSource[]::new));
+                } catch (Exception e) {
+                    log.error("Failed to flush {} lesson heartbeat(s); re-queueing", chunk.size(), e);
+                    chunk.forEach(heartbeat -> buffer.merge(heartbeat.key(), heartbeat, (newer, older) -> older.coalesce(newer)));
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        // Waits for a scheduled flush in progress, then writes whatever arrived since
+        flushLock.lock();
+        try {
+            flush();
+        } finally {
+            flushLock.unlock();
+        }
+        if (!buffer.isEmpty()) {
+            log.warn("Dropping {} lesson heartbeat(s) that could not be written on shutdown", buffer.size());
+        }
+    }
+
+    private void verifyAccess(String email, UUID lessonId, String key) {
+        Instant now = Instant.now();
+        Instant verifiedUntil = verified.get(key);
+        if (verifiedUntil != null && now.isBefore(verifiedUntil)) {
+            return;
+        }
+
+        UUID userId = userRepository.findIdByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        UUID courseId = lessonRepository.findCourseIdById(lessonId)
+                .orElseThrow(() -> new ResourceNotFoundException("Lesson not found with id: " + lessonId));
+        if (!enrollmentAccessService.isEnrolledInCourse(userId, courseId)) {
+            throw new ForbiddenException("You must be enrolled in the course to report progress");
+        }
+        if (hasRoomForVerified(now)) {
+            verified.put(key, now.plus(Duration.ofSeconds(accessTtlSeconds)));
+        }
+    }
+
+    private boolean hasRoomForVerified(Instant now) {
+        if (verified.size() < maxEntries) {
+            return true;
+        }
+        verified.values().removeIf(until -> !now.isBefore(until));
+        return verified.size() < maxEntries;
+    }
+
+    private List<PendingHeartbeat> drain() {
+        List<PendingHeartbeat> pending = new ArrayList<>(buffer.size());
+        for (String key : buffer.keySet()) {
+            PendingHeartbeat heartbeat = buffer.remove(key);
+            if (heartbeat != null) {
+                pending.add(heartbeat);
+            }
+        }
+        return pending;
+    }
+
+    private MapSqlParameterSource toParameters(PendingHeartbeat heartbeat) {
+        return new MapSqlParameterSource()
+                .addValue("email", heartbeat.getEmail())
+                .addValue("lessonId", heartbeat.getLessonId())
+                .addValue("position", heartbeat.getPositionSeconds())
+                .addValue("watched", heartbeat.getWatchedSeconds())
+                .addValue("watchedAt", Timestamp.from(heartbeat.getWatchedAt()));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class PendingHeartbeat {
+        private final String email;
+        private final UUID lessonId;
+        private final int positionSeconds;
+        private final long watchedSeconds;
+        private final Instant watchedAt;
+
+        String key() {
+            return email + "|" + lessonId;
+        }
+
+        /**
+         * Merges a later heartbeat into this one: its position wins, watch time adds up.
+         */
+        PendingHeartbeat coalesce(PendingHeartbeat later) {
+            return new PendingHeartbeat(email, lessonId, later.positionSeconds,
+                    watchedSeconds + later.watchedSeconds, later.watchedAt);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.backend.service;
 
 import com.example.backend.constant.CourseProgressStatus;
+import com.example.backend.constant.SlugScope;
 import com.example.backend.dto.response.progress.CourseProgressResponse;
 import com.example.backend.entity.*;
 import com.example.backend.mapper.ProgressMapper;
@@ -10,8 +11,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -27,9 +26,11 @@ public class ProgressTrackingService {
     private final EnrollmentRepository enrollmentRepository;
     private final UserRepository userRepository;
     private final LessonRepository lessonRepository;
-    private final ChapterRepository chapterRepository;
-    private final CourseRepository courseRepository;
     private final ProgressMapper progressMapper;
+    private final SlugRegistryService slugRegistryService;
+    private final EnrollmentAccessService enrollmentAccessService;
+    private final CourseProgressEngine courseProgressEngine;
+    private final CourseOutlineService courseOutlineService;
     
     public void markLessonCompleted(String studentEmail, UUID lessonId) {
         log.info("Marking lesson {} as completed for student {}", lessonId, studentEmail);
@@ -42,28 +43,11 @@ public class ProgressTrackingService {
                 .orElseThrow(() -> new RuntimeException("Lesson not found"));
         
         // Check if student is enrolled in the course
-        if (!enrollmentRepository.existsByMemberIdAndCourseId(student.getId(), lesson.getCourse().getId())) {
+        if (!enrollmentAccessService.isEnrolledInCourse(student.getId(), lesson.getCourse().getId())) {
             throw new RuntimeException("Student is not enrolled in this course");
         }
         
-        // Check if progress already exists
-        CourseProgress progress = courseProgressRepository
-                .findByMemberIdAndLessonId(student.getId(), lessonId)
-                .orElse(new CourseProgress());
-        
-        // Update or create progress
-        if (progress.getId() == null) {
-            progress.setMember(student);
-            progress.setLesson(lesson);
-            progress.setChapter(lesson.getChapter());
-            progress.setCourse(lesson.getCourse());
-        }
-        
-        progress.setStatus(CourseProgressStatus.COMPLETE);
-        courseProgressRepository.save(progress);
-        
-        // Update enrollment progress
-        updateEnrollmentProgress(student.getId(), lesson.getCourse().getId());
+        completeLesson(student, lesson);
         
         log.info("Successfully marked lesson {} as completed for student {}", lessonId, studentEmail);
     }
@@ -75,38 +59,7 @@ public class ProgressTrackingService {
         User student = userRepository.findByEmail(studentEmail)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
         
-        // Validate enrollment
-        Enrollment enrollment = enrollmentRepository.findByMemberIdAndCourseId(student.getId(), courseId)
-                .orElseThrow(() -> new RuntimeException("Student is not enrolled in this course"));
-        
-        // Get all progress for this course
-        List<CourseProgress> progressList = courseProgressRepository.findByMemberIdAndCourseId(student.getId(), courseId);
-        Map<UUID, CourseProgress> progressMap = progressList.stream()
-                .collect(Collectors.toMap(cp -> cp.getLesson().getId(), cp -> cp));
-        
-        // Get all chapters and lessons for this course
-        List<Chapter> chapters = chapterRepository.findByCourseIdOrderByCreation(courseId);
-        
-        // Group lessons by chapter
-        Map<UUID, List<Lesson>> lessonsByChapter = chapters.stream()
-                .collect(Collectors.toMap(
-                        Chapter::getId,
-                        chapter -> lessonRepository.findByChapterIdOrderByPosition(chapter.getId())
-                ));
-        
-        // Calculate completed and total lessons
-        long completedLessons = courseProgressRepository.countCompletedLessons(student.getId(), courseId);
-        long totalLessons = courseProgressRepository.countTotalLessons(courseId);
-        
-        return progressMapper.mapToCourseProgressResponse(
-                courseId,
-                enrollment,
-                chapters,
-                progressMap,
-                lessonsByChapter,
-                (int) completedLessons,
-                (int) totalLessons
-        );
+        return buildCourseProgress(student, courseId);
     }
     
     public void markLessonCompletedBySlug(String studentEmail, String lessonSlug) {
@@ -120,28 +73,11 @@ public class ProgressTrackingService {
                 .orElseThrow(() -> new RuntimeException("Lesson not found"));
         
         // Check if student is enrolled in the course
-        if (!enrollmentRepository.existsByMemberIdAndCourseId(student.getId(), lesson.getCourse().getId())) {
+        if (!enrollmentAccessService.isEnrolledInCourse(student.getId(), lesson.getCourse().getId())) {
             throw new RuntimeException("Student is not enrolled in this course");
         }
         
-        // Check if progress already exists
-        CourseProgress progress = courseProgressRepository
-                .findByMemberIdAndLessonId(student.getId(), lesson.getId())
-                .orElse(new CourseProgress());
-        
-        // Update or create progress
-        if (progress.getId() == null) {
-            progress.setMember(student);
-            progress.setLesson(lesson);
-            progress.setChapter(lesson.getChapter());
-            progress.setCourse(lesson.getCourse());
-        }
-        
-        progress.setStatus(CourseProgressStatus.COMPLETE);
-        courseProgressRepository.save(progress);
-        
-        // Update enrollment progress
-        updateEnrollmentProgress(student.getId(), lesson.getCourse().getId());
+        completeLesson(student, lesson);
         
         log.info("Successfully marked lesson {} as completed for student {}", lessonSlug, studentEmail);
     }
@@ -153,67 +89,50 @@ public class ProgressTrackingService {
         User student = userRepository.findByEmail(studentEmail)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
         
-        Course course = courseRepository.findBySlug(courseSlug)
+        UUID courseId = slugRegistryService.resolve(SlugScope.COURSE, courseSlug)
                 .orElseThrow(() -> new RuntimeException("Course not found"));
         
+        return buildCourseProgress(student, courseId);
+    }
+
+    private CourseProgressResponse buildCourseProgress(User student, UUID courseId) {
         // Validate enrollment
-        Enrollment enrollment = enrollmentRepository.findByMemberIdAndCourseId(student.getId(), course.getId())
+        Enrollment enrollment = enrollmentRepository.findByMemberIdAndCourseId(student.getId(), courseId)
                 .orElseThrow(() -> new RuntimeException("Student is not enrolled in this course"));
         
         // Get all progress for this course
-        List<CourseProgress> progressList = courseProgressRepository.findByMemberIdAndCourseId(student.getId(), course.getId());
+        List<CourseProgress> progressList = courseProgressRepository.findByMemberIdAndCourseId(student.getId(), courseId);
         Map<UUID, CourseProgress> progressMap = progressList.stream()
                 .collect(Collectors.toMap(cp -> cp.getLesson().getId(), cp -> cp));
+        int completedLessons = (int) progressList.stream()
+                .filter(cp -> cp.getStatus() == CourseProgressStatus.COMPLETE)
+                .count();
         
-        // Get all chapters and lessons for this course
-        List<Chapter> chapters = chapterRepository.findByCourseIdOrderByCreation(course.getId());
-        
-        // Group lessons by chapter
-        Map<UUID, List<Lesson>> lessonsByChapter = chapters.stream()
-                .collect(Collectors.toMap(
-                        Chapter::getId,
-                        chapter -> lessonRepository.findByChapterIdOrderByPosition(chapter.getId())
-                ));
-        
-        // Calculate completed and total lessons
-        long completedLessons = courseProgressRepository.countCompletedLessons(student.getId(), course.getId());
-        long totalLessons = courseProgressRepository.countTotalLessons(course.getId());
-        
+        // Chapters and lessons come from the cached outline rather than a query per chapter
         return progressMapper.mapToCourseProgressResponse(
-                course.getId(),
+                courseId,
                 enrollment,
-                chapters,
+                courseOutlineService.getOutline(courseId),
                 progressMap,
-                lessonsByChapter,
-                (int) completedLessons,
-                (int) totalLessons
+                completedLessons
         );
     }
 
-    private void updateEnrollmentProgress(UUID studentId, UUID courseId) {
-        Enrollment enrollment = enrollmentRepository.findByMemberIdAndCourseId(studentId, courseId)
-                .orElseThrow(() -> new RuntimeException("Enrollment not found"));
-        
-        long completedLessons = courseProgressRepository.countCompletedLessons(studentId, courseId);
-        long totalLessons = courseProgressRepository.countTotalLessons(courseId);
-        
-        if (totalLessons > 0) {
-            BigDecimal progress = BigDecimal.valueOf(completedLessons)
-                    .divide(BigDecimal.valueOf(totalLessons), 4, RoundingMode.HALF_UP)
-                    .multiply(BigDecimal.valueOf(100));
-            
-            enrollment.setProgress(progress);
+    /**
+     * Records the completion and, only if it is new, rewrites the enrollment's percentage and current
+     * lesson from every completion in course_progress, including those recorded on other nodes.
+     */
+    private void completeLesson(User student, Lesson lesson) {
+        UUID courseId = lesson.getCourse().getId();
+        // Taken first, so the snapshot below also sees a completion that committed while we waited
+        enrollmentRepository.lockByMemberIdAndCourseId(student.getId(), courseId);
+        int completed = courseProgressRepository.markComplete(
+                student.getId(), lesson.getId(), lesson.getChapter().getId(), courseId);
+        if (completed == 0) {
+            return;
         }
-        
-        // Set current lesson to the next incomplete lesson
-        List<Lesson> incompleteLessons = lessonRepository.findIncompleteLessonsByCourseIdAndMemberId(courseId, studentId);
-        if (!incompleteLessons.isEmpty()) {
-            enrollment.setCurrentLesson(incompleteLessons.get(0));
-        } else {
-            // All lessons completed, set current lesson to null
-            enrollment.setCurrentLesson(null);
-        }
-        
-        enrollmentRepository.save(enrollment);
+
+        CourseProgressEngine.ProgressSnapshot snapshot = courseProgressEngine.snapshot(student.getId(), courseId);
+        enrollmentRepository.updateProgress(student.getId(), courseId, snapshot.getProgress(), snapshot.getNextLessonId());
     }
 }
@@ -1,25 +1,37 @@
 package com.example.backend.service;
 
+import com.example.backend.constant.SlugScope;
 import com.example.backend.dto.request.review.ReviewRequest;
+import com.example.backend.dto.response.pagination.CursorPageResponse;
+import com.example.backend.dto.response.review.CourseRatingSummaryResponse;
 import com.example.backend.dto.response.review.ReviewResponse;
 import com.example.backend.entity.Course;
+import com.example.backend.entity.CourseRatingStats;
 import com.example.backend.entity.Review;
 import com.example.backend.entity.User;
 import com.example.backend.excecption.ForbiddenException;
 import com.example.backend.excecption.InvalidRequestDataException;
 import com.example.backend.excecption.ResourceNotFoundException;
 import com.example.backend.mapper.ReviewMapper;
+import com.example.backend.repository.CourseRatingStatsRepository;
 import com.example.backend.repository.CourseRepository;
-import com.example.backend.repository.EnrollmentRepository;
+import com.example.backend.repository.KeysetSpecification;
 import com.example.backend.repository.ReviewRepository;
+import com.example.backend.repository.ReviewSpecification;
 import com.example.backend.repository.UserRepository;
+import com.example.backend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -29,7 +41,9 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
-    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentAccessService enrollmentAccessService;
+    private final SlugRegistryService slugRegistryService;
+    private final CourseRatingStatsRepository courseRatingStatsRepository;
 
     @Transactional
     public ReviewResponse createReview(UUID courseId, ReviewRequest request) {
@@ -110,6 +124,24 @@ public class ReviewService {
         return reviews.map(ReviewMapper::toResponse);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ReviewResponse> scrollApprovedReviewsByCourseSlug(String courseSlug, String cursor, int size) {
+        Specification<Review> spec = ReviewSpecification.forCourseSlug(courseSlug);
+        if (cursor != null) {
+            KeysetCursor.Position<OffsetDateTime> after = KeysetCursor.decode(cursor, OffsetDateTime::parse);
+            spec = spec.and(KeysetSpecification.before("creation", after.getTimestamp(), after.getId()));
+        }
+
+        int limit = CursorPageResponse.clampSize(size);
+        List<Review> reviews = reviewRepository.findBy(spec, query -> query
+                .sortBy(KeysetSpecification.newestFirst("creation"))
+                .limit(limit + 1)
+                .all());
+        return CursorPageResponse.of(reviews, limit,
+                page -> page.stream().map(ReviewMapper::toResponse).toList(),
+                review -> KeysetCursor.encode(review.getCreation(), review.getId()));
+    }
+
     @Transactional(readOnly = true)
     public ReviewResponse getMyReviewForCourse(UUID courseId) {
         User currentUser = getCurrentUser();
@@ -122,9 +154,9 @@ public class ReviewService {
     @Transactional(readOnly = true)
     public ReviewResponse getMyReviewForCourseSlug(String courseSlug) {
         User currentUser = getCurrentUser();
-        Course course = courseRepository.findBySlug(courseSlug)
+        UUID courseId = slugRegistryService.resolve(SlugScope.COURSE, courseSlug)
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
-        Review review = reviewRepository.findByCourseIdAndStudentId(course.getId(), currentUser.getId())
+        Review review = reviewRepository.findByCourseIdAndStudentId(courseId, currentUser.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("You have not reviewed this course yet"));
         return ReviewMapper.toResponse(review);
     }
@@ -132,19 +164,45 @@ public class ReviewService {
 
     @Transactional(readOnly = true)
     public Double getAverageRatingForCourse(UUID courseId) {
-        return reviewRepository.findAverageRatingByCourseId(courseId);
+        return courseRatingStatsRepository.findById(courseId)
+                .map(this::averageOf)
+                .orElse(null);
     }
 
     @Transactional(readOnly = true)
     public Double getAverageRatingForCourseSlug(String courseSlug) {
-        Course course = courseRepository.findBySlug(courseSlug)
-                .orElseThrow(() -> new ResourceNotFoundException("Course not found with slug: " + courseSlug));
-        return reviewRepository.findAverageRatingByCourseId(course.getId());
+        return getAverageRatingForCourse(resolveCourseId(courseSlug));
     }
 
     @Transactional(readOnly = true)
     public long getReviewCountForCourse(UUID courseId) {
-        return reviewRepository.countByCourseId(courseId);
+        return courseRatingStatsRepository.findById(courseId)
+                .map(CourseRatingStats::getReviewCount)
+                .orElse(0);
+    }
+
+    /**
+     * Average, count and star histogram for a course, read from its rating aggregate row.
+     */
+    @Transactional(readOnly = true)
+    public CourseRatingSummaryResponse getRatingSummaryForCourseSlug(String courseSlug) {
+        UUID courseId = resolveCourseId(courseSlug);
+        CourseRatingStats stats = courseRatingStatsRepository.findById(courseId).orElse(null);
+
+        Map<Integer, Integer> histogram = new LinkedHashMap<>();
+        histogram.put(1, stats != null ? stats.getStars1() : 0);
+        histogram.put(2, stats != null ? stats.getStars2() : 0);
+        histogram.put(3, stats != null ? stats.getStars3() : 0);
+        histogram.put(4, stats != null ? stats.getStars4() : 0);
+        histogram.put(5, stats != null ? stats.getStars5() : 0);
+
+        Double average = stats != null ? averageOf(stats) : null;
+        return CourseRatingSummaryResponse.builder()
+                .courseId(courseId)
+                .averageRating(average != null ? average : 0.0)
+                .reviewCount(stats != null ? stats.getReviewCount() : 0)
+                .histogram(histogram)
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -159,6 +217,15 @@ public class ReviewService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
+    private UUID resolveCourseId(String courseSlug) {
+        return slugRegistryService.resolve(SlugScope.COURSE, courseSlug)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with slug: " + courseSlug));
+    }
+
+    private Double averageOf(CourseRatingStats stats) {
+        return stats.getReviewCount() > 0 ? (double) stats.getRatingSum() / stats.getReviewCount() : null;
+    }
+
     private Course findCourseById(UUID courseId) {
         return courseRepository.findById(courseId)
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + courseId));
@@ -170,7 +237,7 @@ public class ReviewService {
     }
 
     private void verifyEnrollment(UUID courseId, UUID userId) {
-        boolean isEnrolled = enrollmentRepository.existsByMemberIdAndCourseId(userId, courseId);
+        boolean isEnrolled = enrollmentAccessService.isEnrolledInCourse(userId, courseId);
         if (!isEnrolled) {
             throw new ForbiddenException("You must be enrolled in the course to leave a review");
         }
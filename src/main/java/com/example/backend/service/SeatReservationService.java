@@ -0,0 +1,170 @@
+package com.example.backend.service;
+
+import com.example.backend.constant.SeatStatus;
+import com.example.backend.dto.response.enrollment.WaitlistPositionResponse;
+import com.example.backend.entity.Batch;
+import com.example.backend.entity.BatchWaitlistEntry;
+import com.example.backend.entity.User;
+import com.example.backend.excecption.InvalidRequestDataException;
+import com.example.backend.repository.BatchSeatRepository;
+import com.example.backend.repository.BatchWaitlistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Seats for batches with a {@code maxCapacity}. Each seat is a row in batch_seats, claimed with
+ * {@code FOR UPDATE SKIP LOCKED} so concurrent enrollments take different rows instead of queueing
+ * on one counter. Paid checkouts hold a seat for {@code hold-minutes}; lapsed holds are claimable
+ * straight away and swept back periodically, at which point the waitlist is offered the freed seats.
+ * Batches without a capacity have no seats and every reservation succeeds.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SeatReservationService {
+
+    private final BatchSeatRepository batchSeatRepository;
+    private final BatchWaitlistRepository batchWaitlistRepository;
+    private final EmailService emailService;
+
+    @Value("${app.batch-seats.hold-minutes:15}")
+    private long holdMinutes;
+
+    @Value("${app.batch-seats.offer-minutes:1440}")
+    private long offerMinutes;
+
+    /**
+     * Brings the seats of a batch in line with its capacity after it is created or changed.
+     */
+    @Transactional
+    public void syncCapacity(Batch batch) {
+        if (batch.getMaxCapacity() == null) {
+            batchSeatRepository.deleteAllByBatchId(batch.getId());
+            return;
+        }
+        int capacity = Math.max(batch.getMaxCapacity(), 0);
+        batchSeatRepository.addSeats(batch.getId(), capacity);
+        batchSeatRepository.removeFreeSeatsAbove(batch.getId(), capacity);
+        promoteWaitlist(batch.getId());
+    }
+
+    /**
+     * Holds a seat for the duration of a checkout. Returns false when the batch is full.
+     */
+    @Transactional
+    public boolean hold(Batch batch, UUID userId) {
+        return reserve(batch, userId, SeatStatus.HELD, OffsetDateTime.now().plusMinutes(holdMinutes));
+    }
+
+    /**
+     * Gives the user a seat for good, converting their hold if they have one. Returns false when the batch is full.
+     */
+    @Transactional
+    public boolean take(Batch batch, UUID userId) {
+        return reserve(batch, userId, SeatStatus.TAKEN, null);
+    }
+
+    /**
+     * Gives back a seat held for a checkout that failed, and offers it to the waitlist.
+     */
+    @Transactional
+    public void release(UUID batchId, UUID userId) {
+        if (batchSeatRepository.releaseHold(batchId, userId) > 0) {
+            promoteWaitlist(batchId);
+        }
+    }
+
+    @Transactional
+    public WaitlistPositionResponse joinWaitlist(Batch batch, User user) {
+        if (batch.getMaxCapacity() == null) {
+            throw new InvalidRequestDataException("This batch has no seat limit");
+        }
+        BatchWaitlistEntry entry = batchWaitlistRepository.findByBatchIdAndUserId(batch.getId(), user.getId())
+                .orElse(null);
+        if (entry == null) {
+            if (!batchWaitlistRepository.existsByBatchId(batch.getId())
+                    && batchSeatRepository.countClaimable(batch.getId()) > 0) {
+                throw new InvalidRequestDataException("Seats are still available for this batch");
+            }
+            entry = new BatchWaitlistEntry();
+            entry.setBatch(batch);
+            entry.setUser(user);
+            entry = batchWaitlistRepository.saveAndFlush(entry);
+        }
+        long position = batchWaitlistRepository.countAhead(batch.getId(), entry.getCreatedAt(), entry.getId());
+        return WaitlistPositionResponse.builder()
+                .batchId(batch.getId())
+                .position(position)
+                .build();
+    }
+
+    @Transactional
+    public void leaveWaitlist(UUID batchId, UUID userId) {
+        batchWaitlistRepository.deleteByBatchIdAndUserId(batchId, userId);
+    }
+
+    /**
+     * Offers free seats to the head of the waitlist as holds that last {@code offer-minutes}.
+     */
+    @Transactional
+    public void promoteWaitlist(UUID batchId) {
+        long free = batchSeatRepository.countClaimable(batchId);
+        if (free == 0) {
+            return;
+        }
+        OffsetDateTime offeredUntil = OffsetDateTime.now().plusMinutes(offerMinutes);
+        boolean skipped = false;
+        for (BatchWaitlistEntry entry : batchWaitlistRepository.lockNext(batchId, (int) free)) {
+            User user = entry.getUser();
+            if (batchSeatRepository.hasTakenSeat(batchId, user.getId())) {
+                // Enrolled since joining the waitlist: drop the entry without spending an offer on it
+                batchWaitlistRepository.delete(entry);
+                skipped = true;
+                continue;
+            }
+            if (batchSeatRepository.updateOwnSeat(batchId, user.getId(), SeatStatus.HELD.name(), offeredUntil) == 0
+                    && batchSeatRepository.claimSeat(batchId, user.getId(), SeatStatus.HELD.name(), offeredUntil) == 0) {
+                break;
+            }
+            batchWaitlistRepository.delete(entry);
+            emailService.sendSeatOfferedEmail(user.getEmail(), user.getFullName(), entry.getBatch().getTitle(), offeredUntil);
+            log.info("Offered a seat in batch {} to waitlisted user {}", batchId, user.getId());
+        }
+        if (skipped) {
+            promoteWaitlist(batchId);
+        }
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${app.batch-seats.expiry-interval-ms:30000}")
+    public void releaseExpiredHolds() {
+        Set<UUID> batchIds = new LinkedHashSet<>(batchSeatRepository.releaseExpiredHolds());
+        // Also picks up seats freed without going through this service, such as a deleted holder's
+        batchIds.addAll(batchSeatRepository.findWaitlistedBatchesWithFreeSeats());
+        batchIds.forEach(this::promoteWaitlist);
+    }
+
+    private boolean reserve(Batch batch, UUID userId, SeatStatus status, OffsetDateTime heldUntil) {
+        if (batch.getMaxCapacity() == null) {
+            return true;
+        }
+        if (batchSeatRepository.updateOwnSeat(batch.getId(), userId, status.name(), heldUntil) > 0) {
+            batchWaitlistRepository.deleteByBatchIdAndUserId(batch.getId(), userId);
+            return true;
+        }
+        // Students already on the waitlist are offered freed seats before anyone else
+        if (batchWaitlistRepository.existsByBatchId(batch.getId())) {
+            return false;
+        }
+        return batchSeatRepository.claimSeat(batch.getId(), userId, status.name(), heldUntil) > 0;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.backend.service;
+
+import com.example.backend.config.RabbitMQConfig;
+import com.example.backend.constant.SlugScope;
+import com.example.backend.dto.message.SlugChangedMessage;
+import com.example.backend.event.SlugChangedEvent;
+import com.example.backend.repository.BatchRepository;
+import com.example.backend.repository.ChapterRepository;
+import com.example.backend.repository.CourseRepository;
+import com.example.backend.repository.LessonRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.backend.util.SlugConverter.toSlug;
+
+/**
+ * Resolves slugs to ids from an in-memory cache and allocates unique slugs for courses,
+ * batches, chapters and lessons. Entries are evicted when a {@link SlugChangedEvent} commits,
+ * locally and on every other node over RabbitMQ, so a slug freed on one node and reused on
+ * another never resolves to the old entity. Entries also expire after {@code ttl-seconds}, which
+ * covers a broadcast that could not be sent.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlugRegistryService {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    private final CourseRepository courseRepository;
+    private final BatchRepository batchRepository;
+    private final ChapterRepository chapterRepository;
+    private final LessonRepository lessonRepository;
+    private final RabbitTemplate rabbitTemplate;
+
+    private final Map<String, ResolvedSlug> cache = new ConcurrentHashMap<>();
+
+    @Value("${app.slug-registry.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${app.slug-registry.max-entries:20000}")
+    private int maxEntries;
+
+    public Optional<UUID> resolve(SlugScope scope, String slug) {
+        String key = scope + "|" + slug;
+        ResolvedSlug cached = cache.get(key);
+        if (cached != null && Instant.now().isBefore(cached.getExpiresAt())) {
+            return Optional.of(cached.getId());
+        }
+
+        // Misses are not cached, so a newly created slug resolves on the next request
+        Optional<UUID> id = findIdBySlug(scope, slug);
+        id.ifPresent(found -> {
+            if (hasRoom()) {
+                cache.put(key, new ResolvedSlug(found, Instant.now().plus(Duration.ofSeconds(ttlSeconds))));
+            }
+        });
+        return id;
+    }
+
+    /**
+     * Returns the slug of the title, or the first free "-N" suffix of it, using a single query
+     * for every existing slug that shares the base.
+     */
+    public String allocate(SlugScope scope, String title) {
+        String baseSlug = toSlug(title);
+        Set<String> taken = new HashSet<>(findSlugsByBase(scope, baseSlug, escapeLike(baseSlug) + "-%"));
+
+        String slug = baseSlug;
+        int counter = 1;
+        while (taken.contains(slug)) {
+            slug = baseSlug + "-" + counter;
+            counter++;
+        }
+        return slug;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlugChanged(SlugChangedEvent event) {
+        SlugChangedMessage message = new SlugChangedMessage(event.getScope(), event.getSlug());
+        evict(message);
+        try {
+            rabbitTemplate.convertAndSend(RabbitMQConfig.SLUG_REGISTRY_EXCHANGE_NAME, "", message);
+        } catch (AmqpException e) {
+            // Other nodes fall back to the TTL for this slug
+            log.warn("Could not broadcast slug change for {} {}: {}", event.getScope(), event.getSlug(), e.getMessage());
+        }
+    }
+
+    @RabbitListener(queues = "#{slugRegistryQueue.name}")
+    public void onRemoteSlugChanged(SlugChangedMessage message) {
+        evict(message);
+    }
+
+    private void evict(SlugChangedMessage message) {
+        cache.remove(message.getScope() + "|" + message.getSlug());
+    }
+
+    private Optional<UUID> findIdBySlug(SlugScope scope, String slug) {
+        return switch (scope) {
+            case COURSE -> courseRepository.findIdBySlug(slug);
+            case BATCH -> batchRepository.findIdBySlug(slug);
+            case CHAPTER -> chapterRepository.findIdBySlug(slug);
+            case LESSON -> lessonRepository.findIdBySlug(slug);
+        };
+    }
+
+    private List<String> findSlugsByBase(SlugScope scope, String baseSlug, String pattern) {
+        return switch (scope) {
+            case COURSE -> courseRepository.findSlugsByBase(baseSlug, pattern);
+            case BATCH -> batchRepository.findSlugsByBase(baseSlug, pattern);
+            case CHAPTER -> chapterRepository.findSlugsByBase(baseSlug, pattern);
+            case LESSON -> lessonRepository.findSlugsByBase(baseSlug, pattern);
+        };
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private boolean hasRoom() {
+        if (cache.size() < maxEntries) {
+            return true;
+        }
+        Instant now = Instant.now();
+        cache.values().removeIf(resolved -> !now.isBefore(resolved.getExpiresAt()));
+        return cache.size() < maxEntries;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ResolvedSlug {
+        private final UUID id;
+        private final Instant expiresAt;
+    }
+}
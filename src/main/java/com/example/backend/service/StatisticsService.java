@@ -6,8 +6,13 @@ import com.example.backend.constant.TransactionStatus;
 import com.example.backend.dto.response.statistics.RevenueDataPoint;
 import com.example.backend.dto.response.statistics.RevenueOverTimeResponse;
 import com.example.backend.dto.response.statistics.InstructorStatsResponse;
+import com.example.backend.dto.response.statistics.LessonFunnelItem;
+import com.example.backend.dto.response.statistics.LessonFunnelResponse;
 import com.example.backend.dto.response.statistics.PerformanceReportItem;
+import com.example.backend.entity.Course;
+import com.example.backend.entity.LessonStats;
 import com.example.backend.entity.User;
+import com.example.backend.excecption.ForbiddenException;
 import com.example.backend.excecption.InvalidRequestDataException;
 import com.example.backend.excecption.ResourceNotFoundException;
 import com.example.backend.repository.*;
@@ -19,20 +24,29 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.temporal.TemporalAdjusters;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class StatisticsService {
 
+    private static final int MAX_FUNNEL_DAYS = 365;
+
     private final CourseRepository courseRepository;
     private final BatchRepository batchRepository;
     private final TransactionRepository transactionRepository;
     private final UserRepository userRepository;
+    private final LessonStatsRepository lessonStatsRepository;
+    private final CourseOutlineService courseOutlineService;
 
     @Transactional(readOnly = true)
     public InstructorStatsResponse getInstructorOverviewStats() {
@@ -121,6 +135,59 @@ public class StatisticsService {
         return batchRepository.getBatchPerformanceReport(instructorId, pageable);
     }
 
+    /**
+     * Per-lesson completion funnel of a course in study order, read from the counters the
+     * course_progress trigger maintains, plus daily started/completed totals for the last {@code days} days.
+     */
+    @Transactional(readOnly = true)
+    public LessonFunnelResponse getLessonFunnel(UUID courseId, int days) {
+        if (days < 1 || days > MAX_FUNNEL_DAYS) {
+            throw new InvalidRequestDataException("Days must be between 1 and " + MAX_FUNNEL_DAYS + ".");
+        }
+        User currentUser = getCurrentUser();
+        Course course = courseRepository.findWithInstructorsById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + courseId));
+        boolean isInstructor = course.getInstructors().stream()
+                .anyMatch(ci -> ci.getUser().getId().equals(currentUser.getId()));
+        if (!isInstructor) {
+            throw new ForbiddenException("You are not an instructor for this course.");
+        }
+
+        long enrolled = course.getEnrollments() != null ? course.getEnrollments() : 0;
+        Map<UUID, LessonStats> statsByLesson = lessonStatsRepository.findByCourseId(courseId).stream()
+                .collect(Collectors.toMap(LessonStats::getLessonId, stats -> stats));
+
+        List<LessonFunnelItem> lessons = new ArrayList<>();
+        Long previousCompleted = null;
+        for (CourseOutlineService.ChapterOutline chapter : courseOutlineService.getOutline(courseId).getChapters()) {
+            for (CourseOutlineService.LessonOutline lesson : chapter.getLessons()) {
+                LessonStats stats = statsByLesson.get(lesson.getId());
+                long started = stats != null ? stats.getStarted() : 0;
+                long completed = stats != null ? stats.getCompleted() : 0;
+                lessons.add(LessonFunnelItem.builder()
+                        .lessonId(lesson.getId())
+                        .lessonTitle(lesson.getTitle())
+                        .chapterId(chapter.getId())
+                        .chapterTitle(chapter.getTitle())
+                        .started(started)
+                        .completed(completed)
+                        .completionRate(enrolled > 0
+                                ? BigDecimal.valueOf(completed * 100).divide(BigDecimal.valueOf(enrolled), 2, RoundingMode.HALF_UP)
+                                : BigDecimal.ZERO)
+                        .dropOff(previousCompleted != null ? Math.max(previousCompleted - completed, 0) : 0)
+                        .build());
+                previousCompleted = completed;
+            }
+        }
+
+        return LessonFunnelResponse.builder()
+                .courseId(courseId)
+                .courseTitle(course.getTitle())
+                .enrolledCount(enrolled)
+                .lessons(lessons)
+                .dailyDataPoints(lessonStatsRepository.getDailyTotalsByCourse(courseId, LocalDate.now().minusDays(days - 1L)))
+                .build();
+    }
 
     private User getCurrentUser() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
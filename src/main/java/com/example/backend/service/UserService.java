@@ -1,13 +1,17 @@
 package com.example.backend.service;
 
+import com.example.backend.constant.EntityType;
 import com.example.backend.dto.model.UserDTO;
 import com.example.backend.dto.response.pagination.PaginationResponse;
 import com.example.backend.entity.User;
+import com.example.backend.event.CatalogChangedEvent;
 import com.example.backend.excecption.DataNotFoundException;
 import com.example.backend.mapper.UserMapper;
+import com.example.backend.repository.CourseInstructorRepository;
 import com.example.backend.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -24,6 +28,8 @@ import java.util.stream.Collectors;
 public class UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final CourseInstructorRepository courseInstructorRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserDTO getUser() {
         String email = SecurityContextHolder.getContext().getAuthentication().getName();
@@ -41,6 +47,10 @@ public class UserService {
         user.setUserImage(userDTO.getUserImage());
 
         userRepository.save(user);
+
+        // Instructor names and avatars are copied onto catalog cards
+        courseInstructorRepository.findCourseIdsByUserId(id)
+                .forEach(courseId -> eventPublisher.publishEvent(new CatalogChangedEvent(EntityType.COURSE, courseId)));
     }
 
     public UserDTO getUserById(UUID id){
@@ -0,0 +1,52 @@
+package com.example.backend.util;
+
+import com.example.backend.excecption.InvalidRequestDataException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Materialized paths for threaded comments (see V1_2_4__add_comment_paths.sql). A path is the
+ * parent's path plus a segment of creation micros and a tie-break, so sorting a thread by path
+ * gives depth-first order with siblings oldest first.
+ */
+public final class CommentPath {
+    public static final String SEPARATOR = ".";
+
+    private static final Pattern VALID_PATH = Pattern.compile("[0-9a-f]{20}(\\.[0-9a-f]{20})*");
+
+    private CommentPath() {
+    }
+
+    public static String root(Instant creation) {
+        return segment(creation);
+    }
+
+    public static String child(String parentPath, Instant creation) {
+        return parentPath + SEPARATOR + segment(creation);
+    }
+
+    public static String encodeCursor(String path) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(path.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decodeCursor(String cursor) {
+        try {
+            String path = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (VALID_PATH.matcher(path).matches()) {
+                return path;
+            }
+        } catch (IllegalArgumentException e) {
+            // fall through
+        }
+        throw new InvalidRequestDataException("Invalid cursor");
+    }
+
+    private static String segment(Instant creation) {
+        long micros = creation.getEpochSecond() * 1_000_000 + creation.getNano() / 1_000;
+        return String.format("%016d%04x", micros, ThreadLocalRandom.current().nextInt(0x10000));
+    }
+}
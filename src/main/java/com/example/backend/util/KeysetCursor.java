@@ -0,0 +1,44 @@
+package com.example.backend.util;
+
+import com.example.backend.excecption.InvalidRequestDataException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.Temporal;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Opaque cursor for keyset pagination over (timestamp, id). Clients only pass it back as-is.
+ */
+public final class KeysetCursor {
+    private static final String SEPARATOR = "|";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Temporal timestamp, UUID id) {
+        String raw = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static <T> Position<T> decode(String cursor, Function<String, T> timestampParser) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new Position<>(timestampParser.apply(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidRequestDataException("Invalid cursor");
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Position<T> {
+        private final T timestamp;
+        private final UUID id;
+    }
+}
@@ -0,0 +1,47 @@
+-- Full-text search for the public catalog (courses and batches)
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- unaccent() is only STABLE, so wrap it to allow its use in generated columns and indexes
+CREATE OR REPLACE FUNCTION immutable_unaccent(text)
+    RETURNS text
+AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+-- 'simple' config: no stemming, which suits Vietnamese and mixed-language titles
+ALTER TABLE courses
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', immutable_unaccent(coalesce(title, ''))), 'A') ||
+        setweight(to_tsvector('simple', immutable_unaccent(coalesce(short_introduction, ''))), 'B') ||
+        setweight(to_tsvector('simple', immutable_unaccent(coalesce(description, ''))), 'C')
+    ) STORED;
+
+CREATE INDEX idx_courses_search_vector ON courses USING GIN (search_vector);
+
+ALTER TABLE batch
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', immutable_unaccent(coalesce(title, ''))), 'A') ||
+        setweight(to_tsvector('simple', immutable_unaccent(coalesce(description, ''))), 'B')
+    ) STORED;
+
+CREATE INDEX idx_batch_search_vector ON batch USING GIN (search_vector);
+
+-- Called from JPA specifications. Plain SQL functions (not STRICT) get inlined by the planner,
+-- so "fts_matches(search_vector, :q)" still uses the GIN index.
+CREATE OR REPLACE FUNCTION fts_query(search text)
+    RETURNS tsquery
+AS $$
+    SELECT websearch_to_tsquery('simple', immutable_unaccent(search))
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
+
+CREATE OR REPLACE FUNCTION fts_matches(document tsvector, search text)
+    RETURNS boolean
+AS $$
+    SELECT document @@ fts_query(search)
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
+
+CREATE OR REPLACE FUNCTION fts_rank(document tsvector, search text)
+    RETURNS real
+AS $$
+    SELECT ts_rank(document, fts_query(search))
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
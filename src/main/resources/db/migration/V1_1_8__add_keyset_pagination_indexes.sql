@@ -0,0 +1,17 @@
+-- Composite indexes backing keyset (cursor) pagination on (timestamp DESC, id DESC)
+
+CREATE INDEX idx_courses_published_creation_id ON courses (creation DESC, id DESC) WHERE status = 'PUBLISHED';
+
+CREATE INDEX idx_reviews_course_creation_id ON reviews (course_id, creation DESC, id DESC);
+
+CREATE INDEX idx_batch_discussion_root_created_id ON batch_discussion (batch_id, created_at DESC, id DESC)
+    WHERE reply_discussion IS NULL;
+
+CREATE INDEX idx_transactions_created_id ON transactions (created_at DESC, id DESC);
+CREATE INDEX idx_transactions_student_created_id ON transactions (student_id, created_at DESC, id DESC);
+CREATE INDEX idx_transactions_instructor_created_id ON transactions (instructor_id, created_at DESC, id DESC);
+
+-- Superseded by the composite indexes above
+DROP INDEX IF EXISTS idx_transactions_created_at;
+DROP INDEX IF EXISTS idx_transactions_student;
+DROP INDEX IF EXISTS idx_transactions_instructor;
@@ -0,0 +1,127 @@
+-- Denormalized read model for public catalog cards: one row per published course holding
+-- everything a card shows, so the catalog listing is a single indexed query.
+CREATE TABLE course_cards (
+    course_id UUID PRIMARY KEY REFERENCES courses(id) ON DELETE CASCADE,
+    title VARCHAR(255) NOT NULL,
+    slug VARCHAR(255),
+    short_introduction TEXT,
+    description TEXT,
+    image VARCHAR(255),
+    video_link VARCHAR(500),
+    status VARCHAR(50) NOT NULL,
+    paid_course BOOLEAN,
+    selling_price DECIMAL(10, 2),
+    currency VARCHAR(10),
+    enrollments INTEGER NOT NULL DEFAULT 0,
+    lessons INTEGER NOT NULL DEFAULT 0,
+    rating DECIMAL(3, 2),
+    language VARCHAR(50),
+    target_audience TEXT,
+    skill_level TEXT,
+    learner_profile_desc TEXT,
+    tag_names TEXT[] NOT NULL DEFAULT '{}',
+    label_names TEXT[] NOT NULL DEFAULT '{}',
+    tags JSONB NOT NULL DEFAULT '[]',
+    labels JSONB NOT NULL DEFAULT '[]',
+    instructors JSONB NOT NULL DEFAULT '[]',
+    search_vector tsvector,
+    creation TIMESTAMPTZ NOT NULL,
+    refreshed_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_course_cards_creation ON course_cards (creation DESC, course_id DESC);
+CREATE INDEX idx_course_cards_tag_names ON course_cards USING GIN (tag_names);
+CREATE INDEX idx_course_cards_label_names ON course_cards USING GIN (label_names);
+CREATE INDEX idx_course_cards_search_vector ON course_cards USING GIN (search_vector);
+
+-- Called from JPA specifications; inlined by the planner so "&&" still uses the GIN indexes
+CREATE OR REPLACE FUNCTION text_array_overlaps(a text[], b text[])
+    RETURNS boolean
+AS $$
+    SELECT a && b
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
+
+-- Rebuilds the card of a single course from its source tables. Runs inside the writing
+-- transaction, so the card commits together with the change that made it stale.
+CREATE OR REPLACE PROCEDURE refresh_course_card(p_course_id UUID)
+AS $$
+    DELETE FROM course_cards cc
+    WHERE cc.course_id = p_course_id
+      AND NOT EXISTS (SELECT 1 FROM courses c WHERE c.id = p_course_id AND c.status = 'PUBLISHED');
+
+    INSERT INTO course_cards (
+        course_id, title, slug, short_introduction, description, image, video_link, status,
+        paid_course, selling_price, currency, enrollments, lessons, rating, language,
+        target_audience, skill_level, learner_profile_desc,
+        tag_names, label_names, tags, labels, instructors, search_vector, creation, refreshed_at)
+    SELECT c.id, c.title, c.slug, c.short_introduction, c.description, c.image, c.video_link, c.status,
+           c.paid_course, c.selling_price, c.currency, COALESCE(c.enrollments, 0), COALESCE(c.lessons, 0),
+           COALESCE(r.avg_rating, c.rating), c.language,
+           c.target_audience, c.skill_level, c.learner_profile_desc,
+           COALESCE(t.names, '{}'), COALESCE(l.names, '{}'),
+           COALESCE(t.items, '[]'), COALESCE(l.items, '[]'), COALESCE(i.items, '[]'),
+           c.search_vector, COALESCE(c.creation, NOW()), NOW()
+    FROM courses c
+    LEFT JOIN LATERAL (
+        SELECT ROUND(AVG(rv.rating), 2) AS avg_rating
+        FROM reviews rv
+        WHERE rv.course_id = c.id
+    ) r ON TRUE
+    LEFT JOIN LATERAL (
+        SELECT array_agg(tg.name ORDER BY tg.name) AS names,
+               jsonb_agg(jsonb_build_object('id', tg.id, 'name', tg.name) ORDER BY tg.name) AS items
+        FROM tags tg
+        WHERE tg.entity_id = c.id AND tg.entity_type = 'COURSE'
+    ) t ON TRUE
+    LEFT JOIN LATERAL (
+        SELECT array_agg(lb.name ORDER BY lb.name) AS names,
+               jsonb_agg(jsonb_build_object('id', lb.id, 'name', lb.name) ORDER BY lb.name) AS items
+        FROM labels lb
+        WHERE lb.entity_id = c.id AND lb.entity_type = 'COURSE'
+    ) l ON TRUE
+    LEFT JOIN LATERAL (
+        SELECT jsonb_agg(jsonb_build_object(
+                   'id', u.id, 'fullName', u.full_name, 'email', u.email, 'userImage', u.user_image)
+                   ORDER BY ci.creation, u.id) AS items
+        FROM course_instructors ci
+        JOIN users u ON u.id = ci.instructor_id
+        WHERE ci.course_id = c.id
+    ) i ON TRUE
+    WHERE c.id = p_course_id AND c.status = 'PUBLISHED'
+    ON CONFLICT (course_id) DO UPDATE SET
+        title = EXCLUDED.title,
+        slug = EXCLUDED.slug,
+        short_introduction = EXCLUDED.short_introduction,
+        description = EXCLUDED.description,
+        image = EXCLUDED.image,
+        video_link = EXCLUDED.video_link,
+        status = EXCLUDED.status,
+        paid_course = EXCLUDED.paid_course,
+        selling_price = EXCLUDED.selling_price,
+        currency = EXCLUDED.currency,
+        enrollments = EXCLUDED.enrollments,
+        lessons = EXCLUDED.lessons,
+        rating = EXCLUDED.rating,
+        language = EXCLUDED.language,
+        target_audience = EXCLUDED.target_audience,
+        skill_level = EXCLUDED.skill_level,
+        learner_profile_desc = EXCLUDED.learner_profile_desc,
+        tag_names = EXCLUDED.tag_names,
+        label_names = EXCLUDED.label_names,
+        tags = EXCLUDED.tags,
+        labels = EXCLUDED.labels,
+        instructors = EXCLUDED.instructors,
+        search_vector = EXCLUDED.search_vector,
+        creation = EXCLUDED.creation,
+        refreshed_at = EXCLUDED.refreshed_at;
+$$ LANGUAGE sql;
+
+-- Backfill cards for courses that are already published
+DO $$
+DECLARE
+    published RECORD;
+BEGIN
+    FOR published IN SELECT id FROM courses WHERE status = 'PUBLISHED' LOOP
+        CALL refresh_course_card(published.id);
+    END LOOP;
+END $$;
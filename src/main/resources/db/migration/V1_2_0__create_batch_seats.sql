@@ -0,0 +1,42 @@
+-- One row per seat of a capacity-limited batch. Seats are claimed with FOR UPDATE SKIP LOCKED,
+-- so concurrent enrollments each take a different row instead of queueing on a shared counter.
+CREATE TABLE batch_seats (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    batch_id UUID NOT NULL REFERENCES batch(id) ON DELETE CASCADE,
+    seat_no INTEGER NOT NULL,
+    user_id UUID REFERENCES users(id) ON DELETE SET NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'AVAILABLE',
+    held_until TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    UNIQUE (batch_id, seat_no),
+    CONSTRAINT chk_batch_seats_holder CHECK ((status = 'AVAILABLE') = (user_id IS NULL)),
+    CONSTRAINT chk_batch_seats_hold CHECK (status <> 'HELD' OR held_until IS NOT NULL)
+);
+
+-- Claimable seats (free or held), in seat order
+CREATE INDEX idx_batch_seats_claimable ON batch_seats (batch_id, seat_no) WHERE status <> 'TAKEN';
+CREATE INDEX idx_batch_seats_hold_expiry ON batch_seats (held_until) WHERE status = 'HELD';
+CREATE UNIQUE INDEX uq_batch_seats_user ON batch_seats (batch_id, user_id) WHERE user_id IS NOT NULL;
+
+-- Students waiting for a seat of a full batch, served first come first served
+CREATE TABLE batch_waitlist (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    batch_id UUID NOT NULL REFERENCES batch(id) ON DELETE CASCADE,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    UNIQUE (batch_id, user_id)
+);
+
+CREATE INDEX idx_batch_waitlist_queue ON batch_waitlist (batch_id, created_at, id);
+
+-- Seats for existing capacity-limited batches, with current enrollments sitting in the first seats
+INSERT INTO batch_seats (batch_id, seat_no, user_id, status)
+SELECT b.id, g.seat_no, e.user_id, CASE WHEN e.user_id IS NULL THEN 'AVAILABLE' ELSE 'TAKEN' END
+FROM batch b
+CROSS JOIN LATERAL generate_series(1, b.max_capacity) AS g(seat_no)
+LEFT JOIN (
+    SELECT be.batch_id, be.user_id,
+           ROW_NUMBER() OVER (PARTITION BY be.batch_id ORDER BY be.enrolled_at, be.id) AS seat_no
+    FROM batch_enrollment be
+) e ON e.batch_id = b.id AND e.seat_no = g.seat_no
+WHERE b.max_capacity > 0;
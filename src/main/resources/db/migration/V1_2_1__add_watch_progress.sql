@@ -0,0 +1,5 @@
+-- Playback position and accumulated watch time per lesson, written in batches from video heartbeats
+ALTER TABLE course_progress
+    ADD COLUMN last_position_seconds INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN watch_time_seconds BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN last_watched_at TIMESTAMPTZ;
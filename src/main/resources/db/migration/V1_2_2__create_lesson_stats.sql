@@ -0,0 +1,105 @@
+-- Per-lesson completion funnel, kept current by a trigger on course_progress so instructor
+-- reports read one row per lesson instead of aggregating course_progress.
+-- "started" counts learners with a progress row for the lesson, "completed" those who finished it.
+CREATE TABLE lesson_stats (
+    lesson_id UUID PRIMARY KEY REFERENCES lessons(id) ON DELETE CASCADE,
+    course_id UUID NOT NULL REFERENCES courses(id) ON DELETE CASCADE,
+    started INTEGER NOT NULL DEFAULT 0,
+    completed INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_lesson_stats_course ON lesson_stats (course_id);
+
+-- Daily roll-up: how many learners started and completed each lesson on each day
+CREATE TABLE lesson_stats_daily (
+    lesson_id UUID NOT NULL REFERENCES lessons(id) ON DELETE CASCADE,
+    day DATE NOT NULL,
+    course_id UUID NOT NULL REFERENCES courses(id) ON DELETE CASCADE,
+    started INTEGER NOT NULL DEFAULT 0,
+    completed INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (lesson_id, day)
+);
+
+CREATE INDEX idx_lesson_stats_daily_course ON lesson_stats_daily (course_id, day);
+
+-- Adds started/completed events to the lesson's totals and to today's roll-up
+CREATE OR REPLACE FUNCTION record_lesson_stats(p_lesson_id UUID, p_course_id UUID, p_started INTEGER, p_completed INTEGER)
+RETURNS VOID AS $$
+BEGIN
+    INSERT INTO lesson_stats (lesson_id, course_id, started, completed)
+    VALUES (p_lesson_id, p_course_id, p_started, p_completed)
+    ON CONFLICT (lesson_id) DO UPDATE SET
+        started = lesson_stats.started + p_started,
+        completed = lesson_stats.completed + p_completed,
+        updated_at = NOW();
+
+    INSERT INTO lesson_stats_daily (lesson_id, day, course_id, started, completed)
+    VALUES (p_lesson_id, CURRENT_DATE, p_course_id, p_started, p_completed)
+    ON CONFLICT (lesson_id, day) DO UPDATE SET
+        started = lesson_stats_daily.started + p_started,
+        completed = lesson_stats_daily.completed + p_completed;
+END;
+$$ language 'plpgsql';
+
+CREATE OR REPLACE FUNCTION track_lesson_stats()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM record_lesson_stats(NEW.lesson_id, NEW.course_id, 1,
+                CASE WHEN NEW.status = 'COMPLETE' THEN 1 ELSE 0 END);
+    ELSIF TG_OP = 'UPDATE' THEN
+        IF NEW.status = 'COMPLETE' THEN
+            PERFORM record_lesson_stats(NEW.lesson_id, NEW.course_id, 0, 1);
+        ELSIF OLD.status = 'COMPLETE' THEN
+            UPDATE lesson_stats SET completed = GREATEST(completed - 1, 0), updated_at = NOW()
+            WHERE lesson_id = NEW.lesson_id;
+        END IF;
+    ELSE
+        -- Removals correct the totals but leave the daily history as it happened. A plain UPDATE,
+        -- since the lesson itself may be going away in the same cascade.
+        UPDATE lesson_stats SET
+            started = GREATEST(started - 1, 0),
+            completed = GREATEST(completed - CASE WHEN OLD.status = 'COMPLETE' THEN 1 ELSE 0 END, 0),
+            updated_at = NOW()
+        WHERE lesson_id = OLD.lesson_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER track_course_progress_insert
+    AFTER INSERT ON course_progress
+    FOR EACH ROW
+    EXECUTE FUNCTION track_lesson_stats();
+
+-- Heartbeats rewrite the status on every flush; only real transitions touch the counters
+CREATE TRIGGER track_course_progress_status
+    AFTER UPDATE OF status ON course_progress
+    FOR EACH ROW
+    WHEN (OLD.status IS DISTINCT FROM NEW.status)
+    EXECUTE FUNCTION track_lesson_stats();
+
+CREATE TRIGGER track_course_progress_delete
+    AFTER DELETE ON course_progress
+    FOR EACH ROW
+    EXECUTE FUNCTION track_lesson_stats();
+
+-- Backfill from existing progress
+INSERT INTO lesson_stats (lesson_id, course_id, started, completed)
+SELECT lesson_id, course_id, COUNT(*), COUNT(*) FILTER (WHERE status = 'COMPLETE')
+FROM course_progress
+GROUP BY lesson_id, course_id;
+
+INSERT INTO lesson_stats_daily (lesson_id, day, course_id, started, completed)
+SELECT lesson_id, day, course_id, SUM(started), SUM(completed)
+FROM (
+    SELECT lesson_id, creation::date AS day, course_id, 1 AS started, 0 AS completed
+    FROM course_progress
+    WHERE creation IS NOT NULL
+    UNION ALL
+    SELECT lesson_id, modified::date, course_id, 0, 1
+    FROM course_progress
+    WHERE status = 'COMPLETE' AND modified IS NOT NULL
+) events
+GROUP BY lesson_id, day, course_id;
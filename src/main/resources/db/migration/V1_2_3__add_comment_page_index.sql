@@ -0,0 +1,5 @@
+-- Serves the lesson comment page (newest first) and its count straight from the index
+CREATE INDEX idx_comments_lesson_page ON comments (lesson_id, creation DESC, id DESC) WHERE is_deleted = FALSE;
+
+-- Looks up the current user's votes for the comments on one page
+CREATE INDEX idx_comment_votes_user_comment ON comment_votes (user_id, comment_id);
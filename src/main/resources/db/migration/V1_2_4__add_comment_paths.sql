@@ -0,0 +1,49 @@
+-- Materialized paths for threaded comments. Each comment's path is its parent's path plus a segment
+-- of its creation time in microseconds (16 digits) and 4 tie-break characters, joined by '.'.
+-- Ordering a thread by path gives depth-first order with siblings oldest first. The "C" collation
+-- keeps the comparison bytewise, so '.' sorts before any digit.
+ALTER TABLE comments
+    ADD COLUMN root_id UUID REFERENCES comments(id) ON DELETE CASCADE,
+    ADD COLUMN path TEXT COLLATE "C",
+    ADD COLUMN depth INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN reply_count INTEGER NOT NULL DEFAULT 0;
+
+WITH RECURSIVE tree AS (
+    SELECT c.id, c.id AS root_id, 0 AS depth,
+           LPAD(FLOOR(EXTRACT(EPOCH FROM c.creation) * 1000000)::BIGINT::TEXT, 16, '0')
+               || SUBSTR(REPLACE(c.id::TEXT, '-', ''), 1, 4) AS path
+    FROM comments c
+    WHERE c.parent_id IS NULL
+    UNION ALL
+    SELECT c.id, t.root_id, t.depth + 1,
+           t.path || '.' || LPAD(FLOOR(EXTRACT(EPOCH FROM c.creation) * 1000000)::BIGINT::TEXT, 16, '0')
+               || SUBSTR(REPLACE(c.id::TEXT, '-', ''), 1, 4)
+    FROM comments c
+    JOIN tree t ON c.parent_id = t.id
+)
+UPDATE comments c
+SET path = t.path,
+    depth = t.depth,
+    root_id = CASE WHEN t.depth = 0 THEN NULL ELSE t.root_id END
+FROM tree t
+WHERE c.id = t.id;
+
+-- reply_count on a root counts every visible reply in its thread
+UPDATE comments r
+SET reply_count = counts.replies
+FROM (
+    SELECT root_id, COUNT(*) AS replies
+    FROM comments
+    WHERE root_id IS NOT NULL AND is_deleted = FALSE
+    GROUP BY root_id
+) counts
+WHERE r.id = counts.root_id;
+
+ALTER TABLE comments ALTER COLUMN path SET NOT NULL;
+
+-- Root comments of a lesson, newest first
+CREATE INDEX idx_comments_lesson_roots ON comments (lesson_id, creation DESC, id DESC)
+    WHERE parent_id IS NULL AND is_deleted = FALSE;
+
+-- Replies of a thread in path order, for previews and "load more"
+CREATE INDEX idx_comments_thread_path ON comments (root_id, path) WHERE is_deleted = FALSE;
@@ -0,0 +1,95 @@
+-- Per-course rating aggregate, kept current by a trigger on reviews so rating reads are one row
+-- instead of an AVG over the course's reviews. The trigger also keeps courses.rating in step.
+CREATE TABLE course_rating_stats (
+    course_id UUID PRIMARY KEY REFERENCES courses(id) ON DELETE CASCADE,
+    review_count INTEGER NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    stars_1 INTEGER NOT NULL DEFAULT 0,
+    stars_2 INTEGER NOT NULL DEFAULT 0,
+    stars_3 INTEGER NOT NULL DEFAULT 0,
+    stars_4 INTEGER NOT NULL DEFAULT 0,
+    stars_5 INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+-- Adds (p_delta = 1) or removes (p_delta = -1) one rating from the course's aggregate and
+-- rewrites courses.rating from it
+CREATE OR REPLACE FUNCTION record_course_rating(p_course_id UUID, p_rating INTEGER, p_delta INTEGER)
+RETURNS VOID AS $$
+BEGIN
+    IF p_delta > 0 THEN
+        INSERT INTO course_rating_stats (course_id, review_count, rating_sum, stars_1, stars_2, stars_3, stars_4, stars_5)
+        VALUES (p_course_id, 1, p_rating,
+                (p_rating = 1)::int, (p_rating = 2)::int, (p_rating = 3)::int, (p_rating = 4)::int, (p_rating = 5)::int)
+        ON CONFLICT (course_id) DO UPDATE SET
+            review_count = course_rating_stats.review_count + 1,
+            rating_sum = course_rating_stats.rating_sum + p_rating,
+            stars_1 = course_rating_stats.stars_1 + (p_rating = 1)::int,
+            stars_2 = course_rating_stats.stars_2 + (p_rating = 2)::int,
+            stars_3 = course_rating_stats.stars_3 + (p_rating = 3)::int,
+            stars_4 = course_rating_stats.stars_4 + (p_rating = 4)::int,
+            stars_5 = course_rating_stats.stars_5 + (p_rating = 5)::int,
+            updated_at = NOW();
+    ELSE
+        -- A plain UPDATE, since the course itself may be going away in the same cascade
+        UPDATE course_rating_stats SET
+            review_count = GREATEST(review_count - 1, 0),
+            rating_sum = GREATEST(rating_sum - p_rating, 0),
+            stars_1 = GREATEST(stars_1 - (p_rating = 1)::int, 0),
+            stars_2 = GREATEST(stars_2 - (p_rating = 2)::int, 0),
+            stars_3 = GREATEST(stars_3 - (p_rating = 3)::int, 0),
+            stars_4 = GREATEST(stars_4 - (p_rating = 4)::int, 0),
+            stars_5 = GREATEST(stars_5 - (p_rating = 5)::int, 0),
+            updated_at = NOW()
+        WHERE course_id = p_course_id;
+    END IF;
+
+    UPDATE courses c SET rating = CASE WHEN s.review_count > 0
+                                       THEN ROUND(s.rating_sum::numeric / s.review_count, 2)
+                                       ELSE 0 END
+    FROM course_rating_stats s
+    WHERE s.course_id = p_course_id AND c.id = p_course_id;
+END;
+$$ language 'plpgsql';
+
+CREATE OR REPLACE FUNCTION track_course_rating()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM record_course_rating(OLD.course_id, OLD.rating, -1);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM record_course_rating(NEW.course_id, NEW.rating, 1);
+    END IF;
+    RETURN NULL;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER track_reviews_insert
+    AFTER INSERT ON reviews
+    FOR EACH ROW
+    EXECUTE FUNCTION track_course_rating();
+
+-- Edits to the comment or approval leave the aggregate alone
+CREATE TRIGGER track_reviews_rating
+    AFTER UPDATE OF rating, course_id ON reviews
+    FOR EACH ROW
+    WHEN (OLD.rating IS DISTINCT FROM NEW.rating OR OLD.course_id IS DISTINCT FROM NEW.course_id)
+    EXECUTE FUNCTION track_course_rating();
+
+CREATE TRIGGER track_reviews_delete
+    AFTER DELETE ON reviews
+    FOR EACH ROW
+    EXECUTE FUNCTION track_course_rating();
+
+-- Backfill from existing reviews
+INSERT INTO course_rating_stats (course_id, review_count, rating_sum, stars_1, stars_2, stars_3, stars_4, stars_5)
+SELECT course_id, COUNT(*), SUM(rating),
+       COUNT(*) FILTER (WHERE rating = 1), COUNT(*) FILTER (WHERE rating = 2), COUNT(*) FILTER (WHERE rating = 3),
+       COUNT(*) FILTER (WHERE rating = 4), COUNT(*) FILTER (WHERE rating = 5)
+FROM reviews
+GROUP BY course_id;
+
+UPDATE courses c SET rating = ROUND(s.rating_sum::numeric / s.review_count, 2)
+FROM course_rating_stats s
+WHERE s.course_id = c.id AND s.review_count > 0;
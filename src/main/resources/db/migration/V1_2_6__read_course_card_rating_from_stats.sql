@@ -0,0 +1,74 @@
+-- Cards take the course rating maintained from course_rating_stats (V1_2_5) instead of
+-- averaging the course's reviews on every refresh.
+CREATE OR REPLACE PROCEDURE refresh_course_card(p_course_id UUID)
+AS $$
+    DELETE FROM course_cards cc
+    WHERE cc.course_id = p_course_id
+      AND NOT EXISTS (SELECT 1 FROM courses c WHERE c.id = p_course_id AND c.status = 'PUBLISHED');
+
+    INSERT INTO course_cards (
+        course_id, title, slug, short_introduction, description, image, video_link, status,
+        paid_course, selling_price, currency, enrollments, lessons, rating, language,
+        target_audience, skill_level, learner_profile_desc,
+        tag_names, label_names, tags, labels, instructors, search_vector, creation, refreshed_at)
+    SELECT c.id, c.title, c.slug, c.short_introduction, c.description, c.image, c.video_link, c.status,
+           c.paid_course, c.selling_price, c.currency, COALESCE(c.enrollments, 0), COALESCE(c.lessons, 0),
+           c.rating, c.language,
+           c.target_audience, c.skill_level, c.learner_profile_desc,
+           COALESCE(t.names, '{}'), COALESCE(l.names, '{}'),
+           COALESCE(t.items, '[]'), COALESCE(l.items, '[]'), COALESCE(i.items, '[]'),
+           c.search_vector, COALESCE(c.creation, NOW()), NOW()
+    FROM courses c
+    LEFT JOIN LATERAL (
+        SELECT array_agg(tg.name ORDER BY tg.name) AS names,
+               jsonb_agg(jsonb_build_object('id', tg.id, 'name', tg.name) ORDER BY tg.name) AS items
+        FROM tags tg
+        WHERE tg.entity_id = c.id AND tg.entity_type = 'COURSE'
+    ) t ON TRUE
+    LEFT JOIN LATERAL (
+        SELECT array_agg(lb.name ORDER BY lb.name) AS names,
+               jsonb_agg(jsonb_build_object('id', lb.id, 'name', lb.name) ORDER BY lb.name) AS items
+        FROM labels lb
+        WHERE lb.entity_id = c.id AND lb.entity_type = 'COURSE'
+    ) l ON TRUE
+    LEFT JOIN LATERAL (
+        SELECT jsonb_agg(jsonb_build_object(
+                   'id', u.id, 'fullName', u.full_name, 'email', u.email, 'userImage', u.user_image)
+                   ORDER BY ci.creation, u.id) AS items
+        FROM course_instructors ci
+        JOIN users u ON u.id = ci.instructor_id
+        WHERE ci.course_id = c.id
+    ) i ON TRUE
+    WHERE c.id = p_course_id AND c.status = 'PUBLISHED'
+    ON CONFLICT (course_id) DO UPDATE SET
+        title = EXCLUDED.title,
+        slug = EXCLUDED.slug,
+        short_introduction = EXCLUDED.short_introduction,
+        description = EXCLUDED.description,
+        image = EXCLUDED.image,
+        video_link = EXCLUDED.video_link,
+        status = EXCLUDED.status,
+        paid_course = EXCLUDED.paid_course,
+        selling_price = EXCLUDED.selling_price,
+        currency = EXCLUDED.currency,
+        enrollments = EXCLUDED.enrollments,
+        lessons = EXCLUDED.lessons,
+        rating = EXCLUDED.rating,
+        language = EXCLUDED.language,
+        target_audience = EXCLUDED.target_audience,
+        skill_level = EXCLUDED.skill_level,
+        learner_profile_desc = EXCLUDED.learner_profile_desc,
+        tag_names = EXCLUDED.tag_names,
+        label_names = EXCLUDED.label_names,
+        tags = EXCLUDED.tags,
+        labels = EXCLUDED.labels,
+        instructors = EXCLUDED.instructors,
+        search_vector = EXCLUDED.search_vector,
+        creation = EXCLUDED.creation,
+        refreshed_at = EXCLUDED.refreshed_at;
+$$ LANGUAGE sql;
+
+-- Bring existing cards in line with the aggregate
+UPDATE course_cards cc SET rating = c.rating, refreshed_at = NOW()
+FROM courses c
+WHERE c.id = cc.course_id AND cc.rating IS DISTINCT FROM c.rating;
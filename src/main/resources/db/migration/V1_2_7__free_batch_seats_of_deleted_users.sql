@@ -0,0 +1,21 @@
+-- ON DELETE SET NULL on batch_seats.user_id left a HELD or TAKEN seat without a holder, which
+-- chk_batch_seats_holder rejects, so deleting any user with a seat failed. The seat is now handed
+-- back as AVAILABLE before the user row goes, and the foreign key no longer takes an action.
+ALTER TABLE batch_seats DROP CONSTRAINT batch_seats_user_id_fkey;
+ALTER TABLE batch_seats
+    ADD CONSTRAINT batch_seats_user_id_fkey FOREIGN KEY (user_id) REFERENCES users(id);
+
+CREATE OR REPLACE FUNCTION free_batch_seats_of_user()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE batch_seats
+    SET status = 'AVAILABLE', user_id = NULL, held_until = NULL, updated_at = NOW()
+    WHERE user_id = OLD.id;
+    RETURN OLD;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER free_batch_seats_before_user_delete
+    BEFORE DELETE ON users
+    FOR EACH ROW
+    EXECUTE FUNCTION free_batch_seats_of_user();
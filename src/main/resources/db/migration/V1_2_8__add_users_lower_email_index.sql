@@ -0,0 +1,2 @@
+-- Bulk enrollment resolves imported emails case-insensitively with lower(email) IN (...)
+CREATE INDEX idx_users_email_lower ON users (lower(email));
@@ -0,0 +1,80 @@
+package com.example.backend;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.UUID;
+
+/**
+ * Base for tests that need the real schema: repositories (and any services a test imports) run
+ * against a Postgres container migrated by Flyway. Tests are not wrapped in a transaction, so
+ * fixtures inserted here are committed and visible to concurrent transactions and to services.
+ * <p>
+ * The container is started once per JVM and shared by every test class.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public abstract class PostgresIntegrationTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Hibernate statistics for the whole session factory; clear them right before the code under test.
+     */
+    protected Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    protected UUID insertUser(String fullName) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, full_name) VALUES (?, ?) RETURNING id",
+                UUID.class, UUID.randomUUID() + "@test.local", fullName);
+    }
+
+    protected UUID insertCourse(String title, String status) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO courses (title, slug, status) VALUES (?, ?, ?) RETURNING id",
+                UUID.class, title, "course-" + UUID.randomUUID(), status);
+    }
+
+    protected UUID insertChapter(UUID courseId, int position) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO chapters (title, slug, course_id, \"position\") VALUES (?, ?, ?, ?) RETURNING id",
+                UUID.class, "Chapter " + position, "chapter-" + UUID.randomUUID(), courseId, position);
+    }
+
+    protected UUID insertLesson(UUID courseId, UUID chapterId, int position) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO lessons (title, slug, chapter_id, course_id, \"position\") VALUES (?, ?, ?, ?, ?) RETURNING id",
+                UUID.class, "Lesson " + position, "lesson-" + UUID.randomUUID(), chapterId, courseId, position);
+    }
+
+    protected void insertTag(UUID entityId, String entityType, String name) {
+        jdbcTemplate.update("INSERT INTO tags (name, entity_id, entity_type) VALUES (?, ?, ?)", name, entityId, entityType);
+    }
+
+    protected void insertLabel(UUID entityId, String entityType, String name) {
+        jdbcTemplate.update("INSERT INTO labels (name, entity_id, entity_type) VALUES (?, ?, ?)", name, entityId, entityType);
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.backend.repository;
+
+import com.example.backend.PostgresIntegrationTest;
+import com.example.backend.util.CommentPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Races castVote/removeVote the way CommentService.voteComment drives them and checks that the
+ * comment's counters always equal the votes actually stored.
+ */
+class CommentVoteRepositoryConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private CommentVoteRepository commentVoteRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private UUID commentId;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+        UUID author = insertUser("Author");
+        UUID courseId = insertCourse("Voting course", "PUBLISHED");
+        UUID chapterId = insertChapter(courseId, 1);
+        UUID lessonId = insertLesson(courseId, chapterId, 1);
+        commentId = jdbcTemplate.queryForObject(
+                "INSERT INTO comments (lesson_id, author_id, content, path) VALUES (?, ?, ?, ?) RETURNING id",
+                UUID.class, lessonId, author, "Vote on me", CommentPath.root(Instant.now()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentFirstVotesFromManyUsersAreAllCounted() throws Exception {
+        List<UUID> voters = insertVoters(60);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < voters.size(); i++) {
+            UUID voter = voters.get(i);
+            boolean upvote = i % 3 != 0;
+            tasks.add(() -> vote(voter, upvote));
+        }
+
+        runConcurrently(tasks);
+
+        assertCountersMatchVotes();
+        assertThat(counters()).containsEntry("upvotes", 40).containsEntry("downvotes", 20);
+    }
+
+    @Test
+    void concurrentCastsSwitchesAndRemovalsKeepCountersExact() throws Exception {
+        List<UUID> voters = insertVoters(40);
+        Random random = new Random(48);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        // Each voter's clicks are separate tasks, so one user's casts, switches and removals race each other too
+        for (int round = 0; round < 8; round++) {
+            for (UUID voter : voters) {
+                boolean upvote = random.nextBoolean();
+                tasks.add(() -> vote(voter, upvote));
+            }
+        }
+
+        runConcurrently(tasks);
+
+        assertCountersMatchVotes();
+    }
+
+    @Test
+    void doubleClickingTheSameVoteKeepsCountersExact() throws Exception {
+        UUID voter = insertUser("Double clicker");
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            tasks.add(() -> vote(voter, true));
+        }
+
+        runConcurrently(tasks);
+
+        assertCountersMatchVotes();
+        assertThat(counters()).containsEntry("downvotes", 0);
+    }
+
+    @Test
+    void repeatedCastOfTheSameVoteIsANoOp() throws Exception {
+        UUID voter = insertUser("Repeater");
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            tasks.add(() -> {
+                inTransaction(() -> commentVoteRepository.castVote(commentId, voter, false));
+                return null;
+            });
+        }
+
+        runConcurrently(tasks);
+
+        assertCountersMatchVotes();
+        assertThat(counters()).containsEntry("upvotes", 0).containsEntry("downvotes", 1);
+    }
+
+    /**
+     * Same decision as CommentService.voteComment: clicking the vote the user already has removes it,
+     * anything else casts or switches it.
+     */
+    private Void vote(UUID userId, boolean upvote) {
+        inTransaction(() -> {
+            Boolean existing = commentVoteRepository.findVoteType(commentId, userId).orElse(null);
+            if (Boolean.valueOf(upvote).equals(existing)) {
+                commentVoteRepository.removeVote(commentId, userId, upvote);
+            } else {
+                commentVoteRepository.castVote(commentId, userId, upvote);
+            }
+        });
+        return null;
+    }
+
+    private void inTransaction(Runnable work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+    }
+
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>(tasks.size());
+        for (Callable<Void> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        for (Future<Void> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+    }
+
+    private List<UUID> insertVoters(int count) {
+        List<UUID> voters = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            voters.add(insertUser("Voter " + i));
+        }
+        return voters;
+    }
+
+    private Map<String, Object> counters() {
+        return jdbcTemplate.queryForMap("SELECT upvotes, downvotes FROM comments WHERE id = ?", commentId);
+    }
+
+    private void assertCountersMatchVotes() {
+        Map<String, Object> stored = jdbcTemplate.queryForMap(
+                "SELECT COUNT(*) FILTER (WHERE vote_type) AS upvotes, COUNT(*) FILTER (WHERE NOT vote_type) AS downvotes " +
+                "FROM comment_votes WHERE comment_id = ?", commentId);
+        Map<String, Object> counters = counters();
+        assertThat(((Number) counters.get("upvotes")).longValue())
+                .isEqualTo(((Number) stored.get("upvotes")).longValue());
+        assertThat(((Number) counters.get("downvotes")).longValue())
+                .isEqualTo(((Number) stored.get("downvotes")).longValue());
+    }
+}
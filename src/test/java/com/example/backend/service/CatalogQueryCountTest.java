@@ -0,0 +1,127 @@
+package com.example.backend.service;
+
+import com.example.backend.PostgresIntegrationTest;
+import com.example.backend.dto.model.BatchDto;
+import com.example.backend.dto.model.CoursePublicDto;
+import com.example.backend.mapper.BatchMapper;
+import com.example.backend.mapper.ChapterMapper;
+import com.example.backend.mapper.CourseMapper;
+import com.example.backend.mapper.LessonMapper;
+import com.example.backend.mapper.UserMapper;
+import com.example.backend.mapper.UserRoleMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards /public/courses and /public/batches against N+1 queries: a full page must cost the same
+ * number of statements as a page with a single item.
+ */
+@Import({CourseService.class, BatchService.class, CourseMapper.class, BatchMapper.class, ChapterMapper.class,
+        LessonMapper.class, UserMapper.class, UserRoleMapper.class, TagService.class, LabelService.class})
+class CatalogQueryCountTest extends PostgresIntegrationTest {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private BatchService batchService;
+
+    @MockitoBean
+    private FileUploadService fileUploadService;
+
+    @MockitoBean
+    private SlugRegistryService slugRegistryService;
+
+    @MockitoBean
+    private SeatReservationService seatReservationService;
+
+    @Test
+    void publishedCoursesPageUsesConstantStatementCount() {
+        String singleTag = uniqueTag();
+        insertPublishedCourses(1, singleTag);
+        String fullTag = uniqueTag();
+        insertPublishedCourses(PAGE_SIZE, fullTag);
+
+        long single = countStatements(() -> assertThat(publishedCourses(singleTag, 1).getContent()).hasSize(1));
+        long full = countStatements(() -> assertThat(publishedCourses(fullTag, PAGE_SIZE).getContent()).hasSize(PAGE_SIZE));
+
+        // Page and count queries over course_cards
+        assertThat(single).isEqualTo(2);
+        assertThat(full).isEqualTo(single);
+    }
+
+    @Test
+    void publishedBatchesPageUsesConstantStatementCount() {
+        String singleTag = uniqueTag();
+        insertPublishedBatches(1, singleTag);
+        String fullTag = uniqueTag();
+        insertPublishedBatches(PAGE_SIZE, fullTag);
+
+        long single = countStatements(() -> assertThat(publishedBatches(singleTag, 1).getContent()).hasSize(1));
+        long full = countStatements(() -> {
+            List<BatchDto> batches = publishedBatches(fullTag, PAGE_SIZE).getContent();
+            assertThat(batches).hasSize(PAGE_SIZE);
+            assertThat(batches).allSatisfy(batch -> {
+                assertThat(batch.getInstructors()).hasSize(1);
+                assertThat(batch.getTags()).hasSize(1);
+                assertThat(batch.getLabels()).hasSize(1);
+            });
+        });
+
+        // Page, count, instructors, tags and labels
+        assertThat(single).isEqualTo(5);
+        assertThat(full).isEqualTo(single);
+    }
+
+    private Page<CoursePublicDto> publishedCourses(String tag, int size) {
+        return courseService.getPublishedCourses(PageRequest.of(0, size), List.of(tag), null, null);
+    }
+
+    private Page<BatchDto> publishedBatches(String tag, int size) {
+        return batchService.getPublishedBatches(PageRequest.of(0, size), List.of(tag), null, null);
+    }
+
+    private long countStatements(Runnable work) {
+        statistics().clear();
+        work.run();
+        return statistics().getPrepareStatementCount();
+    }
+
+    private void insertPublishedCourses(int count, String tag) {
+        for (int i = 0; i < count; i++) {
+            UUID courseId = insertCourse("Course " + i, "PUBLISHED");
+            jdbcTemplate.update("INSERT INTO course_instructors (course_id, instructor_id) VALUES (?, ?)",
+                    courseId, insertUser("Instructor " + i));
+            insertTag(courseId, "COURSE", tag);
+            insertLabel(courseId, "COURSE", "label-" + i);
+            jdbcTemplate.update("CALL refresh_course_card(?)", courseId);
+        }
+    }
+
+    private void insertPublishedBatches(int count, String tag) {
+        for (int i = 0; i < count; i++) {
+            UUID batchId = jdbcTemplate.queryForObject(
+                    "INSERT INTO batch (title, slug, status) VALUES (?, ?, 'PUBLISHED') RETURNING id",
+                    UUID.class, "Batch " + i, "batch-" + UUID.randomUUID());
+            jdbcTemplate.update("INSERT INTO batch_instructors (batch_id, instructor_id) VALUES (?, ?)",
+                    batchId, insertUser("Instructor " + i));
+            insertTag(batchId, "BATCH", tag);
+            insertLabel(batchId, "BATCH", "label-" + i);
+        }
+    }
+
+    private static String uniqueTag() {
+        return "tag-" + UUID.randomUUID();
+    }
+}
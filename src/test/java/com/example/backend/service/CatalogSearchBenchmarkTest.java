@@ -0,0 +1,127 @@
+package com.example.backend.service;
+
+import com.example.backend.PostgresIntegrationTest;
+import com.example.backend.dto.model.CoursePublicDto;
+import com.example.backend.mapper.ChapterMapper;
+import com.example.backend.mapper.CourseMapper;
+import com.example.backend.mapper.LessonMapper;
+import com.example.backend.mapper.UserMapper;
+import com.example.backend.mapper.UserRoleMapper;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Catalog search over 100k seeded courses: checks that the planner answers full-text searches from
+ * the GIN indexes on courses and course_cards, and logs timings of the ranked catalog search next to
+ * the LIKE scan it replaced. Seeding happens inside a transaction that is rolled back, so the rows
+ * never reach other tests.
+ */
+@Import({CourseService.class, CourseMapper.class, ChapterMapper.class, LessonMapper.class, UserMapper.class,
+        UserRoleMapper.class, TagService.class, LabelService.class})
+class CatalogSearchBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSearchBenchmarkTest.class);
+
+    private static final int COURSES = 100_000;
+    // Every MATCH_EVERY-th course is about Kubernetes, with a Vietnamese title that needs unaccent to match
+    private static final int MATCH_EVERY = 1_000;
+    private static final int RUNS = 20;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private FileUploadService fileUploadService;
+
+    @MockitoBean
+    private SlugRegistryService slugRegistryService;
+
+    @Test
+    void searchUsesGinIndexesOnHundredThousandCourses() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            seedCourses();
+
+            String cardPlan = explain("SELECT course_id FROM course_cards " +
+                    "WHERE fts_matches(search_vector, 'lap trinh kubernetes') " +
+                    "ORDER BY fts_rank(search_vector, 'lap trinh kubernetes') DESC, course_id LIMIT 20");
+            String coursePlan = explain("SELECT id FROM courses " +
+                    "WHERE fts_matches(search_vector, 'lap trinh kubernetes') " +
+                    "ORDER BY fts_rank(search_vector, 'lap trinh kubernetes') DESC, id LIMIT 20");
+            String likePlan = explain("SELECT id FROM courses WHERE lower(title) LIKE '%kubernetes%' LIMIT 20");
+            log.info("course_cards full-text plan:\n{}", cardPlan);
+            log.info("courses full-text plan:\n{}", coursePlan);
+            log.info("courses LIKE plan:\n{}", likePlan);
+            assertThat(cardPlan).contains("idx_course_cards_search_vector");
+            assertThat(coursePlan).contains("idx_courses_search_vector");
+
+            Page<CoursePublicDto> page = courseService.getPublishedCourses(PageRequest.of(0, 20), null, null, "lap trinh kubernetes");
+            assertThat(page.getTotalElements()).isEqualTo(COURSES / MATCH_EVERY);
+            assertThat(page.getContent()).allSatisfy(course -> assertThat(course.getTitle()).startsWith("Lập trình Kubernetes"));
+
+            double searchMillis = medianMillis(() -> courseService.getPublishedCourses(
+                    PageRequest.of(0, 20), null, null, "lap trinh kubernetes"));
+            double likeMillis = medianMillis(() -> jdbcTemplate.queryForList(
+                    "SELECT id FROM courses WHERE lower(title) LIKE '%kubernetes%' ORDER BY id LIMIT 20", UUID.class));
+            log.info("Catalog search over {} courses: full-text page {} ms, LIKE scan {} ms (median of {} runs)",
+                    COURSES, String.format("%.2f", searchMillis), String.format("%.2f", likeMillis), RUNS);
+        });
+    }
+
+    private void seedCourses() {
+        String run = UUID.randomUUID().toString();
+        jdbcTemplate.update(
+                "INSERT INTO courses (title, slug, short_introduction, description, status) " +
+                "SELECT CASE WHEN g % ? = 0 THEN 'Lập trình Kubernetes ' || g ELSE 'Khóa học số ' || g END, " +
+                "       'bench-' || ? || '-' || g, " +
+                "       'Giới thiệu ngắn về khóa học ' || g, " +
+                "       repeat('Nội dung bài giảng về phát triển phần mềm. ', 20), " +
+                "       'PUBLISHED' " +
+                "FROM generate_series(1, ?) g",
+                MATCH_EVERY, run, COURSES);
+        jdbcTemplate.update(
+                "INSERT INTO course_cards (course_id, title, slug, short_introduction, description, status, search_vector, creation) " +
+                "SELECT id, title, slug, short_introduction, description, status, search_vector, COALESCE(creation, NOW()) " +
+                "FROM courses WHERE slug LIKE ?",
+                "bench-" + run + "-%");
+        // Uncommitted rows of the current transaction are sampled, so the planner sees 100k rows
+        jdbcTemplate.execute("ANALYZE courses");
+        jdbcTemplate.execute("ANALYZE course_cards");
+    }
+
+    private String explain(String sql) {
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + sql, String.class);
+        return String.join("\n", lines);
+    }
+
+    private double medianMillis(Supplier<?> search) {
+        search.get();
+        long[] nanos = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            search.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[RUNS / 2] / 1_000_000.0;
+    }
+}
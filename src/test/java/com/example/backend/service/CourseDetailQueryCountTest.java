@@ -0,0 +1,94 @@
+package com.example.backend.service;
+
+import com.example.backend.PostgresIntegrationTest;
+import com.example.backend.dto.model.ChapterDto;
+import com.example.backend.dto.model.CourseDto;
+import com.example.backend.mapper.ChapterMapper;
+import com.example.backend.mapper.CourseMapper;
+import com.example.backend.mapper.LessonMapper;
+import com.example.backend.mapper.UserMapper;
+import com.example.backend.mapper.UserRoleMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the course detail page against N+1 queries: loading a course with 20 chapters and 200
+ * lessons must cost the same number of statements as a course with a single lesson.
+ */
+@Import({CourseService.class, CourseMapper.class, ChapterMapper.class, LessonMapper.class, UserMapper.class,
+        UserRoleMapper.class, TagService.class, LabelService.class})
+class CourseDetailQueryCountTest extends PostgresIntegrationTest {
+
+    private static final int CHAPTERS = 20;
+    private static final int LESSONS_PER_CHAPTER = 10;
+
+    @Autowired
+    private CourseService courseService;
+
+    @MockitoBean
+    private FileUploadService fileUploadService;
+
+    @MockitoBean
+    private SlugRegistryService slugRegistryService;
+
+    @Test
+    void courseDetailUsesConstantStatementCount() {
+        String smallSlug = insertCourseWithOutline(1, 1);
+        String largeSlug = insertCourseWithOutline(CHAPTERS, LESSONS_PER_CHAPTER);
+
+        long small = countStatements(() -> assertThat(courseService.getCourseBySlug(smallSlug).getChapters()).hasSize(1));
+        long large = countStatements(() -> {
+            CourseDto course = courseService.getCourseBySlug(largeSlug);
+            assertThat(course.getChapters()).hasSize(CHAPTERS);
+            assertThat(course.getChapters().stream().mapToInt(chapter -> chapter.getLessons().size()).sum())
+                    .isEqualTo(CHAPTERS * LESSONS_PER_CHAPTER);
+            assertThat(course.getChapters()).flatExtracting(ChapterDto::getLessons)
+                    .filteredOn(lesson -> lesson.getQuizDto() != null)
+                    .hasSize(CHAPTERS);
+            assertThat(course.getInstructors()).hasSize(2);
+            assertThat(course.getTags()).hasSize(2);
+            assertThat(course.getLabels()).hasSize(2);
+        });
+
+        // Course with instructors, outline with lessons and quizzes, tags and labels
+        assertThat(small).isEqualTo(4);
+        assertThat(large).isEqualTo(small);
+    }
+
+    private long countStatements(Runnable work) {
+        statistics().clear();
+        work.run();
+        return statistics().getPrepareStatementCount();
+    }
+
+    /**
+     * Inserts a course whose first lesson in every chapter has a quiz, with two instructors, tags and labels.
+     */
+    private String insertCourseWithOutline(int chapters, int lessonsPerChapter) {
+        UUID courseId = insertCourse("Outline course", "PUBLISHED");
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("INSERT INTO course_instructors (course_id, instructor_id) VALUES (?, ?)",
+                    courseId, insertUser("Instructor " + i));
+            insertTag(courseId, "COURSE", "tag-" + i);
+            insertLabel(courseId, "COURSE", "label-" + i);
+        }
+        for (int c = 1; c <= chapters; c++) {
+            UUID chapterId = insertChapter(courseId, c);
+            for (int l = 1; l <= lessonsPerChapter; l++) {
+                UUID lessonId = insertLesson(courseId, chapterId, l);
+                if (l == 1) {
+                    UUID quizId = jdbcTemplate.queryForObject(
+                            "INSERT INTO quizzes (title) VALUES (?) RETURNING id", UUID.class, "Quiz " + UUID.randomUUID());
+                    jdbcTemplate.update("UPDATE lessons SET quiz_id = ? WHERE id = ?", quizId, lessonId);
+                }
+            }
+        }
+        return jdbcTemplate.queryForObject("SELECT slug FROM courses WHERE id = ?", String.class, courseId);
+    }
+}